@@ -0,0 +1,37 @@
+package com.tenco.blog_jpa_step4.board;
+
+import com.tenco.blog_jpa_step4.reply.Reply;
+import com.tenco.blog_jpa_step4.user.User;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 게시글/댓글 데이터를 DB 없이 메모리에서 만드는 클래스입니다.
+ */
+public class BenchmarkBoards {
+
+    public static Board board() {
+        User writer = User.builder().id(1).username("길동").build();
+        Board board = Board.builder()
+                .id(1)
+                .title("벤치마크 게시글")
+                .content("내용".repeat(500))
+                .user(writer)
+                .build();
+        // DB 에 저장하지 않으므로 @PrePersist 대신 직접 설정 (DetailDTO 가 ETag/Last-Modified 용으로 사용)
+        board.setVersion(1);
+        board.setUpdatedAt(new Timestamp(System.currentTimeMillis()));
+        return board;
+    }
+
+    public static List<Reply> replies(Board board, int replyCount) {
+        List<Reply> replies = new ArrayList<>(replyCount);
+        for (int i = 1; i <= replyCount; i++) {
+            User replier = User.builder().id(i % 300 + 1).username("댓글러" + (i % 300)).build();
+            replies.add(Reply.builder().id(i).comment("댓글 내용 " + i).user(replier).board(board).build());
+        }
+        return replies;
+    }
+}
@@ -0,0 +1,45 @@
+package com.tenco.blog_jpa_step4.board;
+
+import com.tenco.blog_jpa_step4.reply.Reply;
+import com.tenco.blog_jpa_step4.user.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BoardResponse.DetailDTO 생성 비용 벤치마크 (댓글 0 / 100 / 10,000개)
+ * - construct: 엔티티 -> 캐시용 DetailDTO 변환
+ * - forViewer: 캐시된 DetailDTO 에 작성자 여부를 적용한 복사본 생성 (요청마다 실행)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DetailDTOBenchmark {
+
+    @Param({"0", "100", "10000"})
+    private int replyCount;
+
+    private Board board;
+    private List<Reply> replies;
+    private BoardResponse.DetailDTO cachedDetail;
+    private User viewer;
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkBoards.board();
+        replies = BenchmarkBoards.replies(board, replyCount);
+        cachedDetail = new BoardResponse.DetailDTO(board, replies);
+        viewer = User.builder().id(1).username("길동").build();
+    }
+
+    @Benchmark
+    public BoardResponse.DetailDTO construct() {
+        return new BoardResponse.DetailDTO(board, replies);
+    }
+
+    @Benchmark
+    public BoardResponse.DetailDTO forViewer() {
+        return cachedDetail.forViewer(viewer);
+    }
+}
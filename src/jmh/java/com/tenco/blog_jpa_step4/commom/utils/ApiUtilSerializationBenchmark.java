@@ -0,0 +1,99 @@
+package com.tenco.blog_jpa_step4.commom.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.tenco.blog_jpa_step4.board.BenchmarkBoards;
+import com.tenco.blog_jpa_step4.board.Board;
+import com.tenco.blog_jpa_step4.board.BoardResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiUtil&lt;DetailDTO&gt;, ApiUtil&lt;List&lt;ListDTO&gt;&gt; 응답의 Jackson 직렬화 벤치마크
+ * - serialize: byte[] 로 직렬화 (기존 기준값)
+ * - 나머지: 응답과 같은 방식으로 출력 스트림에 바로 쓰기, 기본 ObjectMapper 와 Blackbird 모듈 비교
+ * - 초당 처리 바이트 수는 결과의 bytes 보조 지표(ops/s 단위가 bytes/s)로 확인
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ApiUtilSerializationBenchmark {
+
+    private static final int LIST_SIZE = 100;
+
+    @Param({"0", "100", "10000"})
+    private int replyCount;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper blackbirdMapper;
+    private ApiUtil<BoardResponse.DetailDTO> response;
+    private ApiUtil<List<BoardResponse.ListDTO>> listResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        blackbirdMapper = new ObjectMapper().registerModule(new BlackbirdModule());
+        Board board = BenchmarkBoards.board();
+        response = new ApiUtil<>(new BoardResponse.DetailDTO(board, BenchmarkBoards.replies(board, replyCount)));
+        List<BoardResponse.ListDTO> boards = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            boards.add(new BoardResponse.ListDTO(board));
+        }
+        listResponse = new ApiUtil<>(boards);
+    }
+
+    /**
+     * 쓴 바이트 수만 세고 버리는 출력 스트림 (서블릿 출력 스트림 대신 사용)
+     * bytes 필드는 JMH 보조 지표로 측정 시간 동안의 합계가 초당 값으로 출력됩니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ByteSink extends OutputStream {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public void detailDefault(ByteSink sink) throws Exception {
+        objectMapper.writeValue(sink, response);
+    }
+
+    @Benchmark
+    public void detailBlackbird(ByteSink sink) throws Exception {
+        blackbirdMapper.writeValue(sink, response);
+    }
+
+    @Benchmark
+    public void listDefault(ByteSink sink) throws Exception {
+        objectMapper.writeValue(sink, listResponse);
+    }
+
+    @Benchmark
+    public void listBlackbird(ByteSink sink) throws Exception {
+        blackbirdMapper.writeValue(sink, listResponse);
+    }
+}
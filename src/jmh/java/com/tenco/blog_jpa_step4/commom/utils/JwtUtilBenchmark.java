@@ -0,0 +1,49 @@
+package com.tenco.blog_jpa_step4.commom.utils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.tenco.blog_jpa_step4.user.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 토큰 생성/검증 처리량 벤치마크
+ * - create: HMAC512 서명 포함 토큰 생성
+ * - verify: 같은 토큰의 반복 검증 (검증 캐시 적중)
+ * - verifyWithoutCache: 검증 캐시 도입 전 방식 (요청마다 Algorithm / JWTVerifier 생성 후 서명 검증)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private User user;
+    private String jwt;
+
+    @Setup
+    public void setUp() {
+        user = User.builder().id(1).username("길동").build();
+        jwt = JwtUtil.create(user);
+    }
+
+    @Benchmark
+    public String create() {
+        return JwtUtil.create(user);
+    }
+
+    @Benchmark
+    public User verify() {
+        return JwtUtil.verify(jwt);
+    }
+
+    @Benchmark
+    public User verifyWithoutCache() {
+        DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512("tencoding")).build().verify(jwt);
+        return User.builder()
+                .id(decodedJWT.getClaim("id").asInt())
+                .username(decodedJWT.getClaim("username").asString())
+                .build();
+    }
+}
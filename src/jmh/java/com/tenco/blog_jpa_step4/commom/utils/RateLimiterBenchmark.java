@@ -0,0 +1,49 @@
+package com.tenco.blog_jpa_step4.commom.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimiter 요청 1건당 비용 벤치마크 (요청마다 인터셉터에서 실행되므로 수백 ns 이내가 목표)
+ * - sameUser: 모든 스레드가 같은 키 (CAS 경합)
+ * - manyClients: 4,096 개 IP 를 돌아가며 요청 (버킷 맵 조회 비용)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 4_096;
+
+    private RateLimiter rateLimiter;
+    private String[] clientIps;
+
+    @Setup
+    public void setUp() {
+        // 거절되지 않도록 충분히 큰 한도
+        rateLimiter = new RateLimiter(Integer.MAX_VALUE, Duration.ofSeconds(1), Integer.MAX_VALUE / 2,
+                Duration.ofMinutes(10), 100_000);
+        clientIps = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientIps[i] = "10.0." + (i >> 8) + "." + (i & 0xff);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public long sameUser() {
+        return rateLimiter.tryAcquire(1);
+    }
+
+    @Benchmark
+    public long manyClients(Cursor cursor) {
+        return rateLimiter.tryAcquire(clientIps[cursor.next++ & (CLIENTS - 1)]);
+    }
+}
@@ -0,0 +1,347 @@
+package com.tenco.blog_jpa_step4.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenco.blog_jpa_step4.BlogJpaStep1Application;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * LoadTest 는 로컬에서 실행한 애플리케이션에 혼합 트래픽을 보내고
+ * 엔드포인트별 처리량과 지연 시간 백분위(p50/p95/p99/max)를 출력하는 부하 테스트입니다.
+ * 외부 네트워크 없이 한 대의 장비에서 실행되며, 릴리스 전 성능 기준(gate)으로 사용할 수 있습니다.
+ *
+ * 실행: ./gradlew loadTest -PloadTest.concurrency=64 -PloadTest.durationSeconds=60
+ * - loadTest.baseUrl 을 지정하지 않으면 애플리케이션을 같은 JVM 에서 임의 포트로 실행합니다. (H2 인메모리 DB)
+ * - 가상 스레드 비교: -PvirtualThreads (JDK 21 + vthreads 프로필), 느린 DB: loadTest.profiles=dev,slowdb
+ * - 설정 값은 아래 Config 참고
+ */
+public class LoadTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // 부하 테스트 대상 엔드포인트
+    enum Endpoint {
+        LIST("GET /boards"),
+        DETAIL("GET /boards/{id}"),
+        CREATE_BOARD("POST /api/boards"),
+        CREATE_REPLY("POST /api/replies"),
+        LOGIN("POST /login");
+
+        private final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+    }
+
+    // 부하 테스트 설정 (시스템 프로퍼티 loadTest.* 로 변경 가능)
+    record Config(String baseUrl, String profiles, int concurrency, int warmupSeconds, int durationSeconds,
+                  int users, int boards, Map<Endpoint, Integer> mix, double maxP99Ms, double maxErrorRate) {
+
+        static Config fromSystemProperties() {
+            return new Config(
+                    System.getProperty("loadTest.baseUrl"),
+                    System.getProperty("loadTest.profiles", "dev"),
+                    Integer.getInteger("loadTest.concurrency", 32),
+                    Integer.getInteger("loadTest.warmupSeconds", 5),
+                    Integer.getInteger("loadTest.durationSeconds", 30),
+                    Integer.getInteger("loadTest.users", 20),
+                    Integer.getInteger("loadTest.boards", 200),
+                    parseMix(System.getProperty("loadTest.mix", "list=40,detail=40,createBoard=8,createReply=8,login=4")),
+                    Double.parseDouble(System.getProperty("loadTest.maxP99Ms", "0")), // 0 이면 검사 안 함
+                    Double.parseDouble(System.getProperty("loadTest.maxErrorRate", "0.01")));
+        }
+
+        private static Map<Endpoint, Integer> parseMix(String mix) {
+            Map<String, Endpoint> names = Map.of("list", Endpoint.LIST, "detail", Endpoint.DETAIL,
+                    "createBoard", Endpoint.CREATE_BOARD, "createReply", Endpoint.CREATE_REPLY, "login", Endpoint.LOGIN);
+            Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+            for (String part : mix.split(",")) {
+                String[] pair = part.trim().split("=");
+                Endpoint endpoint = names.get(pair[0].trim());
+                if (endpoint == null) {
+                    throw new IllegalArgumentException("알 수 없는 엔드포인트: " + pair[0] + " (사용 가능: " + names.keySet() + ")");
+                }
+                weights.put(endpoint, Integer.parseInt(pair[1].trim()));
+            }
+            return weights;
+        }
+    }
+
+    // 요청에 사용할 사용자 계정과 토큰
+    record Account(String username, String password, String token) {
+    }
+
+    // 스레드별 지연 시간 기록 (측정 중에는 스레드 간 공유하지 않음)
+    static class Recorder {
+        private final Map<Endpoint, long[]> latencies = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, Integer> counts = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, Integer> errors = new EnumMap<>(Endpoint.class);
+
+        void record(Endpoint endpoint, long nanos, boolean error) {
+            long[] values = latencies.computeIfAbsent(endpoint, e -> new long[1024]);
+            int count = counts.getOrDefault(endpoint, 0);
+            if (count == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+                latencies.put(endpoint, values);
+            }
+            values[count] = nanos;
+            counts.put(endpoint, count + 1);
+            if (error) {
+                errors.merge(endpoint, 1, Integer::sum);
+            }
+        }
+    }
+
+    private final Config config;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private String baseUrl;
+    private final List<Account> accounts = new ArrayList<>();
+    private final List<Integer> boardIds = Collections.synchronizedList(new ArrayList<>());
+
+    LoadTest(Config config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Config config = Config.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+        int exitCode;
+        try {
+            LoadTest loadTest = new LoadTest(config);
+            if (config.baseUrl() == null || config.baseUrl().isBlank()) {
+                context = bootApplication(config.profiles());
+                int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+                loadTest.baseUrl = "http://localhost:" + port;
+                System.out.printf("JDK %s, 요청 처리 스레드: %s%n", Runtime.version(),
+                        context.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                                && Runtime.version().feature() >= 21 ? "가상 스레드" : "플랫폼 스레드");
+            } else {
+                loadTest.baseUrl = config.baseUrl();
+            }
+            exitCode = loadTest.run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    // 애플리케이션을 같은 JVM 에서 임의 포트로 실행 (SQL 로그 등 출력은 끔)
+    private static ConfigurableApplicationContext bootApplication(String profiles) {
+        return SpringApplication.run(BlogJpaStep1Application.class,
+                "--server.port=0",
+                "--spring.profiles.active=" + profiles,
+                "--spring.jpa.show-sql=false",
+                "--rate-limit.enabled=false", // 모든 가상 사용자가 같은 IP 에서 요청하므로 요청 수 제한 해제
+                "--spring.output.ansi.enabled=never",
+                "--logging.level.root=WARN");
+    }
+
+    int run() throws Exception {
+        System.out.printf("부하 테스트 대상: %s, 동시성: %d, 워밍업: %ds, 측정: %ds, 비율: %s%n",
+                baseUrl, config.concurrency(), config.warmupSeconds(), config.durationSeconds(), config.mix());
+        seed();
+
+        long measureStart = System.nanoTime() + Duration.ofSeconds(config.warmupSeconds()).toNanos();
+        long measureEnd = measureStart + Duration.ofSeconds(config.durationSeconds()).toNanos();
+
+        List<Recorder> recorders = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            Thread worker = new Thread(() -> {
+                try {
+                    work(recorder, measureStart, measureEnd);
+                } finally {
+                    done.countDown();
+                }
+            }, "load-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        done.await();
+
+        return report(recorders);
+    }
+
+    // 테스트 데이터 준비 - 사용자 가입/로그인, 게시글 작성
+    private void seed() throws Exception {
+        String prefix = "lt" + Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 0; i < config.users(); i++) {
+            String username = prefix + "_" + i;
+            String password = "1234";
+            send(post("/join", Map.of("username", username, "password", password, "email", username + "@load.test"), null));
+            accounts.add(new Account(username, password, login(username, password)));
+        }
+        for (int i = 0; i < config.boards(); i++) {
+            Account account = accounts.get(i % accounts.size());
+            createBoard(account);
+        }
+        System.out.printf("테스트 데이터 준비 완료 - 사용자 %d명, 게시글 %d건%n", accounts.size(), boardIds.size());
+    }
+
+    private void work(Recorder recorder, long measureStart, long measureEnd) {
+        int totalWeight = config.mix().values().stream().mapToInt(Integer::intValue).sum();
+        while (System.nanoTime() < measureEnd) {
+            Endpoint endpoint = pick(totalWeight);
+            long start = System.nanoTime();
+            boolean error;
+            try {
+                error = execute(endpoint) >= 400;
+            } catch (Exception e) {
+                error = true;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (start >= measureStart) {
+                recorder.record(endpoint, elapsed, error);
+            }
+        }
+    }
+
+    private Endpoint pick(int totalWeight) {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Endpoint, Integer> entry : config.mix().entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    // 요청을 보내고 HTTP 상태 코드를 반환
+    private int execute(Endpoint endpoint) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Account account = accounts.get(random.nextInt(accounts.size()));
+        return switch (endpoint) {
+            case LIST -> send(get("/boards?size=20", null)).statusCode();
+            case DETAIL -> send(get("/boards/" + randomBoardId(), random.nextBoolean() ? account.token() : null)).statusCode();
+            case CREATE_BOARD -> createBoard(account);
+            case CREATE_REPLY -> send(post("/api/replies",
+                    Map.of("boardId", randomBoardId(), "comment", "부하 테스트 댓글"), account.token())).statusCode();
+            case LOGIN -> {
+                HttpResponse<String> response = send(post("/login",
+                        Map.of("username", account.username(), "password", account.password()), null));
+                yield response.statusCode();
+            }
+        };
+    }
+
+    private int createBoard(Account account) throws Exception {
+        HttpResponse<String> response = send(post("/api/boards",
+                Map.of("title", "부하 테스트 제목", "content", "부하 테스트 내용 ".repeat(20)), account.token()));
+        if (response.statusCode() == 200) {
+            boardIds.add(OBJECT_MAPPER.readTree(response.body()).path("body").path("id").asInt());
+        }
+        return response.statusCode();
+    }
+
+    private String login(String username, String password) throws Exception {
+        HttpResponse<String> response = send(post("/login", Map.of("username", username, "password", password), null));
+        String authorization = response.headers().firstValue("Authorization")
+                .orElseThrow(() -> new IllegalStateException("로그인 실패: " + username + " (" + response.statusCode() + ")"));
+        return authorization.substring("Bearer ".length());
+    }
+
+    private int randomBoardId() {
+        synchronized (boardIds) {
+            return boardIds.get(ThreadLocalRandom.current().nextInt(boardIds.size()));
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest post(String path, Map<String, Object> body, String token) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    // 결과 출력 후 gate 조건을 만족하지 못하면 1 반환
+    private int report(List<Recorder> recorders) {
+        System.out.println();
+        System.out.printf("%-20s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+
+        boolean failed = false;
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            int count = recorders.stream().mapToInt(r -> r.counts.getOrDefault(endpoint, 0)).sum();
+            if (count == 0) {
+                continue;
+            }
+            long[] merged = new long[count];
+            int offset = 0;
+            int errors = 0;
+            for (Recorder recorder : recorders) {
+                int recorded = recorder.counts.getOrDefault(endpoint, 0);
+                if (recorded > 0) {
+                    System.arraycopy(recorder.latencies.get(endpoint), 0, merged, offset, recorded);
+                    offset += recorded;
+                }
+                errors += recorder.errors.getOrDefault(endpoint, 0);
+            }
+            Arrays.sort(merged);
+
+            double p99 = percentileMillis(merged, 0.99);
+            System.out.printf("%-20s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    endpoint.label, count, errors, (double) count / config.durationSeconds(),
+                    percentileMillis(merged, 0.50), percentileMillis(merged, 0.95), p99,
+                    merged[merged.length - 1] / 1_000_000.0);
+
+            if (config.maxP99Ms() > 0 && p99 > config.maxP99Ms()) {
+                System.out.printf("FAIL: %s p99 %.2fms > %.2fms%n", endpoint.label, p99, config.maxP99Ms());
+                failed = true;
+            }
+            totalRequests += count;
+            totalErrors += errors;
+        }
+
+        double errorRate = totalRequests == 0 ? 1.0 : (double) totalErrors / totalRequests;
+        System.out.printf("%-20s %10d %8d %10.1f%n", "TOTAL", totalRequests, totalErrors,
+                (double) totalRequests / config.durationSeconds());
+        if (errorRate > config.maxErrorRate()) {
+            System.out.printf("FAIL: 오류율 %.2f%% > %.2f%%%n", errorRate * 100, config.maxErrorRate() * 100);
+            failed = true;
+        }
+        return failed ? 1 : 0;
+    }
+
+    // nearest-rank 방식 백분위 (정렬된 배열 기준)
+    private static double percentileMillis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -2,7 +2,11 @@ package com.tenco.blog_jpa_step4;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableAsync // @Async 작업 활성화 (vthreads 프로필에서는 가상 스레드에서 실행)
+@EnableScheduling // @Scheduled 작업 활성화
 @SpringBootApplication
 public class BlogJpaStep1Application {
 
@@ -4,6 +4,11 @@ import com.tenco.blog_jpa_step4.reply.Reply;
 import com.tenco.blog_jpa_step4.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -16,12 +21,22 @@ import java.util.List;
 @Setter
 @Entity // JPA에게 이 클래스가 엔티티임을 알립니다.
 @Table(name = "board_tb") // 실제 데이터베이스 테이블 이름을 지정합니다.
+// 변경된 컬럼만 UPDATE - 게시글 수정 시 reply_count, version 을 조회 시점 값으로 덮어쓰지 않도록
+@DynamicUpdate
+// 2차 캐시 (board 영역) - 수정이 있으므로 READ_WRITE (수정 중인 항목은 잠금 후 커밋 시 갱신)
+// 댓글 수/버전 증가는 네이티브 UPDATE 후 해당 게시글만 제거한다. (BoardEntityCache)
+// 주의: JPQL 벌크 UPDATE (update Board ...) 를 추가하면 board 영역 전체가 비워진다.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board")
 @NoArgsConstructor //  반드시 JPA/Hibernate에서는 엔티티 클래스를 인스턴스화하기 위해 기본 생성자가 필요
 @AllArgsConstructor
 public class Board {
 
+    // IDENTITY 전략은 INSERT 를 실행해야 ID 를 알 수 있어 JDBC 배치 INSERT 가 비활성화된다.
+    // 시퀀스를 50개 단위로 미리 할당(pooled)받아 INSERT 를 모아서 실행한다.
     @Id // 기본 키를 나타냅니다.
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본 키 생성을 데이터베이스에 위임합니다.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq_generator")
+    @SequenceGenerator(name = "board_seq_generator", sequenceName = "board_seq", allocationSize = 50)
     private Integer id; // 게시글 ID
     private String title; // 게시글 제목
     private String content; // 게시글 내용
@@ -36,15 +51,33 @@ public class Board {
     @JoinColumn(name = "user_id")
     private User user; // 작성자 정보
 
+    // ACTIVE 댓글 수 (비정규화 컬럼) - 목록에서 COUNT 쿼리 없이 댓글 수를 보여주기 위해 사용
+    // 댓글 작성/삭제 시 UPDATE ... SET reply_count = reply_count + 1 로 원자적으로 증감한다.
+    @ColumnDefault("0")
+    @Column(name = "reply_count", nullable = false)
+    private int replyCount;
+
+    // 게시글 변경 버전 - 조건부 GET(ETag) 에 사용
+    // 게시글 수정, 댓글 작성/삭제 시 UPDATE ... SET version = version + 1 로 원자적으로 증가한다.
+    // (@Version 낙관적 락을 쓰면 댓글 작성과 게시글 수정이 동시에 일어날 때 수정이 실패하므로 일반 컬럼으로 관리)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    // 마지막 변경 시간 - Last-Modified 헤더에 사용 (version 과 함께 갱신)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_at", nullable = false)
+    private Timestamp updatedAt;
+
     // 데이터베이스 테이블에 매핑되지 않으며, 애플리케이션 내에서만 사용
     // CRUD 연산 시 자동으로 데이터베이스에 저장되거나 조회되지 않음
     @Transient
     private boolean isOwner;
-    // 추후 수정 - 게시글 삭제시에 댓글이 있다면 fk 제약 조건 때문에 삭제가 안된다.
-    // cascade = CascadeType.REMOVE 설정 하기
     // 양방향 맵핑 - 연관관계에 주인은 (Reply) 이다
-    @OneToMany(mappedBy = "board", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)
-    //@OneToMany(mappedBy = "board", fetch = FetchType.LAZY)
+    // cascade = CascadeType.REMOVE 는 댓글 엔티티를 모두 조회한 후 한 건씩 삭제하므로 사용하지 않는다.
+    // 게시글 삭제 시 댓글은 BoardService.deleteBoard 에서 DELETE ... WHERE board_id = ? 로 나눠서 삭제
+    @OneToMany(mappedBy = "board", fetch = FetchType.LAZY)
+    @SQLRestriction("status = 'ACTIVE'") // 컬렉션 로딩 시 삭제(DELETED)된 댓글 제외
     private List<Reply> replies = new ArrayList<>();
 
     @Builder
@@ -55,6 +88,13 @@ public class Board {
         this.user = user;
         this.createdAt = createdAt;
     }
+
+    @PrePersist
+    protected void onCreate() {
+        if (this.updatedAt == null) {
+            this.updatedAt = new Timestamp(System.currentTimeMillis());
+        }
+    }
 }
 
 
@@ -0,0 +1,57 @@
+package com.tenco.blog_jpa_step4.board;
+
+import com.tenco.blog_jpa_step4.commom.utils.ApiUtil;
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * BoardBackupController 는 블로그 전체 데이터 백업/이전용 관리자 API 를 처리하는 컨트롤러입니다.
+ * /api/admin/** 경로이므로 로그인 인터셉터와 관리자 인터셉터(role = ADMIN)를 거칩니다.
+ */
+@RequiredArgsConstructor
+@Timed(value = "blog.controller", histogram = true) // 핸들러 메서드별 실행 시간 측정
+@RestController
+public class BoardBackupController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final BoardBackupService boardBackupService;
+
+    /**
+     * 전체 데이터 내보내기 처리 메서드
+     * 요청 주소: **GET http://localhost:8080/api/admin/boards/export**
+     * 응답 본문을 메모리에 모으지 않고 한 줄씩 바로 출력합니다.
+     *
+     * @param response HTTP 응답 객체
+     */
+    @GetMapping("/api/admin/boards/export")
+    public void exportBoards(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"blog-export.ndjson\"");
+        boardBackupService.exportTo(response.getOutputStream());
+    }
+
+    /**
+     * 전체 데이터 가져오기 처리 메서드
+     * 요청 주소: **POST http://localhost:8080/api/admin/boards/import** (본문: 내보내기로 받은 NDJSON)
+     * 데이터가 없는 (ID 시퀀스도 사용하지 않은) 데이터베이스에만 가져올 수 있고, 아니면 400 을 응답합니다.
+     *
+     * @param request HTTP 요청 객체 (본문을 스트림으로 읽음)
+     * @return 저장한 사용자, 게시글, 댓글 수
+     */
+    @PostMapping("/api/admin/boards/import")
+    public ResponseEntity<ApiUtil<BoardResponse.ImportDTO>> importBoards(HttpServletRequest request) throws IOException {
+        BoardResponse.ImportDTO result = boardBackupService.importFrom(request.getInputStream());
+        return ResponseEntity.ok(new ApiUtil<>(result));
+    }
+}
@@ -0,0 +1,292 @@
+package com.tenco.blog_jpa_step4.board;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenco.blog_jpa_step4.commom.errors.Exception400;
+import com.tenco.blog_jpa_step4.reply.Reply;
+import com.tenco.blog_jpa_step4.user.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BoardBackupService 는 블로그 전체 데이터(사용자, 게시글, 댓글)를 NDJSON 으로 내보내고 가져오는 서비스입니다.
+ * 한 줄에 레코드 하나({"type":"user|board|reply", ...})를 쓰며, 외래 키 순서대로 사용자 → 게시글 → 댓글 순으로 출력합니다.
+ * 내보내기와 가져오기 모두 한 번에 FETCH_SIZE / BATCH_SIZE 건만 메모리에 올리므로 전체 데이터 양과 관계없이 힙 사용량이 일정합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BoardBackupService {
+
+    static final int FETCH_SIZE = 1000; // 커서에서 한 번에 가져오는 행 수 (영속성 컨텍스트 비우는 단위)
+    private static final int BATCH_SIZE = 1000; // 가져오기 시 한 번에 INSERT 하는 행 수
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50; // 엔티티 @SequenceGenerator allocationSize 와 동일
+
+    // 빈 데이터베이스에만 가져오므로 덮어쓰지 않는다. (같은 ID 가 있으면 실패)
+    private static final String USER_INSERT = """
+            INSERT INTO user_tb(id, username, password, email, role, created_at) VALUES (?, ?, ?, ?, ?, ?)""";
+    private static final String BOARD_INSERT = """
+            INSERT INTO board_tb(id, title, content, user_id, reply_count, created_at) VALUES (?, ?, ?, ?, ?, ?)""";
+    private static final String REPLY_INSERT = """
+            INSERT INTO reply_tb(id, comment, board_id, user_id, status, created_at) VALUES (?, ?, ?, ?, ?, ?)""";
+    // 가져오기 대상 테이블과 ID 시퀀스 (외래 키 순서)
+    private static final String[][] TABLES = {{"user_tb", "user_seq"}, {"board_tb", "board_seq"}, {"reply_tb", "reply_seq"}};
+
+    private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardSearchIndex boardSearchIndex;
+
+    @FunctionalInterface
+    private interface RecordWriter<T> {
+        void write(JsonGenerator generator, T entity) throws IOException;
+    }
+
+    /**
+     * 전체 데이터를 NDJSON 으로 출력합니다.
+     * 전방향(FORWARD_ONLY) 커서로 한 행씩 읽어 쓰고, 쓴 엔티티는 바로 영속성 컨텍스트에서 분리합니다.
+     * @param out 응답 출력 스트림 (닫지 않음)
+     * @return 출력한 줄 수
+     */
+    @Transactional(readOnly = true)
+    public long exportTo(OutputStream out) throws IOException {
+        Session session = em.unwrap(Session.class);
+        long lines = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            lines += scroll(session, "select u from User u order by u.id", User.class, generator, this::writeUser);
+            lines += scroll(session, "select b from Board b order by b.id", Board.class, generator, this::writeBoard);
+            lines += scroll(session, "select r from Reply r order by r.id", Reply.class, generator, this::writeReply);
+        }
+        log.info("데이터 내보내기 완료 - {}줄", lines);
+        return lines;
+    }
+
+    private <T> long scroll(Session session, String hql, Class<T> type, JsonGenerator generator,
+                            RecordWriter<T> writer) throws IOException {
+        long count = 0;
+        // MySQL 드라이버는 fetchSize 가 Integer.MIN_VALUE (또는 useCursorFetch=true) 일 때만 행 단위로 가져온다.
+        try (ScrollableResults<T> results = session.createQuery(hql, type)
+                .setReadOnly(true)
+                .setFetchSize(FETCH_SIZE)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                T entity = results.get();
+                writer.write(generator, entity);
+                generator.writeRaw('\n');
+                session.detach(entity);
+
+                if (++count % FETCH_SIZE == 0) {
+                    session.clear(); // 연관 엔티티 프록시까지 제거
+                    generator.flush();
+                }
+            }
+        }
+        generator.flush();
+        return count;
+    }
+
+    // 연관 엔티티는 프록시의 ID 만 사용하므로 추가 조회가 발생하지 않는다.
+    private void writeUser(JsonGenerator generator, User user) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "user");
+        generator.writeNumberField("id", user.getId());
+        generator.writeStringField("username", user.getUsername());
+        generator.writeStringField("password", user.getPassword());
+        generator.writeStringField("email", user.getEmail());
+        generator.writeStringField("role", user.getRole());
+        writeDateTime(generator, user.getCreatedAt() != null ? user.getCreatedAt().toLocalDateTime() : null);
+        generator.writeEndObject();
+    }
+
+    private void writeBoard(JsonGenerator generator, Board board) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "board");
+        generator.writeNumberField("id", board.getId());
+        generator.writeStringField("title", board.getTitle());
+        generator.writeStringField("content", board.getContent());
+        generator.writeObjectField("userId", board.getUser() != null ? board.getUser().getId() : null);
+        generator.writeNumberField("replyCount", board.getReplyCount());
+        writeDateTime(generator, board.getCreatedAt() != null ? board.getCreatedAt().toLocalDateTime() : null);
+        generator.writeEndObject();
+    }
+
+    private void writeReply(JsonGenerator generator, Reply reply) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "reply");
+        generator.writeNumberField("id", reply.getId());
+        generator.writeStringField("comment", reply.getComment());
+        generator.writeNumberField("boardId", reply.getBoard().getId());
+        generator.writeNumberField("userId", reply.getUser().getId());
+        generator.writeStringField("status", reply.getStatus());
+        writeDateTime(generator, reply.getCreateAt());
+        generator.writeEndObject();
+    }
+
+    private void writeDateTime(JsonGenerator generator, LocalDateTime createdAt) throws IOException {
+        generator.writeStringField("createdAt", createdAt != null ? createdAt.toString() : null);
+    }
+
+    /**
+     * NDJSON 을 한 줄씩 읽어서 BATCH_SIZE 건씩 JDBC 배치로 저장합니다.
+     * 파일의 ID 를 그대로 사용하므로 사용자/게시글/댓글이 하나도 없고 ID 시퀀스를 한 번도 사용하지 않은
+     * 데이터베이스에만 가져올 수 있습니다. (기존 행을 덮어쓰거나, 애플리케이션이 미리 할당받아 둔 ID 와 겹치지 않도록)
+     * 배치마다 커밋되므로 중간에 실패하면 그 전 배치까지는 저장된 상태로 남습니다. (비운 후 다시 실행)
+     * 사용자 → 게시글 → 댓글 순서(내보내기 순서)로 작성된 파일이어야 외래 키 제약 조건을 만족합니다.
+     * @param in 요청 본문 입력 스트림
+     * @return 저장한 레코드 수
+     * @throws Exception400 데이터베이스가 비어 있지 않거나, JSON 형식이 잘못되었거나, 필수 값이 없거나 ID 가 중복된 경우 발생
+     */
+    public BoardResponse.ImportDTO importFrom(InputStream in) throws IOException {
+        requireEmptyDatabase();
+        long[] counts = new long[3]; // user, board, reply
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        String batchSql = null;
+        long lineNumber = 0;
+
+        try (MappingIterator<JsonNode> lines = objectMapper.readerFor(JsonNode.class).readValues(in)) {
+            while (lines.hasNextValue()) {
+                JsonNode line = lines.nextValue();
+                lineNumber++;
+                String sql;
+                Object[] args;
+                try {
+                    String type = line.required("type").asText();
+                    switch (type) {
+                        case "user" -> {
+                            sql = USER_INSERT;
+                            args = userArgs(line);
+                            counts[0]++;
+                        }
+                        case "board" -> {
+                            sql = BOARD_INSERT;
+                            args = boardArgs(line);
+                            counts[1]++;
+                        }
+                        case "reply" -> {
+                            sql = REPLY_INSERT;
+                            args = replyArgs(line);
+                            counts[2]++;
+                        }
+                        default -> throw new Exception400(lineNumber + "번째 줄: 알 수 없는 type 입니다 (" + type + ")");
+                    }
+                } catch (IllegalArgumentException e) { // 필수 값 누락, 날짜 형식 오류 등
+                    throw new Exception400(lineNumber + "번째 줄: " + e.getMessage());
+                }
+
+                // 레코드 종류가 바뀌면 이전 종류를 먼저 저장 (외래 키 순서 유지)
+                if (!sql.equals(batchSql) || batch.size() == BATCH_SIZE) {
+                    flush(batchSql, batch);
+                    batchSql = sql;
+                }
+                batch.add(args);
+            }
+            flush(batchSql, batch);
+        } catch (JsonProcessingException e) {
+            throw new Exception400((lineNumber + 1) + "번째 줄: 잘못된 JSON 형식입니다");
+        }
+
+        restartSequences();
+        em.getEntityManagerFactory().getCache().evictAll(); // JDBC 로 직접 변경했으므로 2차 캐시 비움
+        boardDetailCache.evictAll();
+        boardSearchIndex.rebuild();
+        log.info("데이터 가져오기 완료 - 사용자 {}건, 게시글 {}건, 댓글 {}건", counts[0], counts[1], counts[2]);
+        return new BoardResponse.ImportDTO(counts[0], counts[1], counts[2]);
+    }
+
+    private void flush(String sql, List<Object[]> batch) {
+        if (sql == null || batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(sql, batch);
+        } catch (DataIntegrityViolationException e) { // 파일 안에서 ID 중복, 없는 사용자/게시글 참조
+            throw new Exception400("ID 가 중복되었거나 참조하는 사용자/게시글이 없습니다");
+        }
+        batch.clear();
+    }
+
+    // 행이 있거나 시퀀스가 사용된 적이 있으면 (Hibernate 가 ID 범위를 미리 할당받았을 수 있음) 가져오지 않는다.
+    private void requireEmptyDatabase() {
+        for (String[] table : TABLES) {
+            Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table[0], Long.class);
+            if (rows > 0) {
+                throw new Exception400("가져오기는 빈 데이터베이스에서만 가능합니다 (" + table[0] + " 에 데이터가 있습니다)");
+            }
+            Boolean unused = jdbcTemplate.queryForObject(
+                    "SELECT BASE_VALUE = START_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?",
+                    Boolean.class, table[1].toUpperCase());
+            if (!Boolean.TRUE.equals(unused)) {
+                throw new Exception400("가져오기는 빈 데이터베이스에서만 가능합니다 (" + table[1] + " 시퀀스가 이미 사용되었습니다)");
+            }
+        }
+    }
+
+    private Object[] userArgs(JsonNode line) {
+        return new Object[]{line.required("id").asInt(), line.required("username").asText(),
+                line.required("password").asText(), text(line, "email"), line.required("role").asText(),
+                timestamp(line)};
+    }
+
+    private Object[] boardArgs(JsonNode line) {
+        return new Object[]{line.required("id").asInt(), text(line, "title"), text(line, "content"),
+                line.hasNonNull("userId") ? line.get("userId").asInt() : null, line.path("replyCount").asInt(0),
+                timestamp(line)};
+    }
+
+    private Object[] replyArgs(JsonNode line) {
+        return new Object[]{line.required("id").asInt(), line.required("comment").asText(),
+                line.required("boardId").asInt(), line.required("userId").asInt(), line.path("status").asText("ACTIVE"),
+                timestamp(line)};
+    }
+
+    private static String text(JsonNode line, String field) {
+        return line.hasNonNull(field) ? line.get(field).asText() : null;
+    }
+
+    private static Timestamp timestamp(JsonNode line) {
+        String createdAt = text(line, "createdAt");
+        try {
+            return createdAt != null ? Timestamp.valueOf(LocalDateTime.parse(createdAt)) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("createdAt 형식이 잘못되었습니다 (" + createdAt + ")");
+        }
+    }
+
+    // 가져온 ID 이후부터 새 ID 가 할당되도록 시퀀스를 재시작 (H2 시퀀스 기준)
+    // 가져오기 전에 시퀀스가 사용되지 않았으므로 Hibernate 는 재시작한 값부터 ID 범위를 할당받는다.
+    private void restartSequences() {
+        for (String[] table : TABLES) {
+            restartSequence(table[1], table[0]);
+        }
+    }
+
+    private void restartSequence(String sequence, String table) {
+        Integer maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Integer.class);
+        // pooled 방식은 (시퀀스 값 - allocationSize + 1) 부터 사용하므로 그만큼 여유를 둔다.
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + SEQUENCE_ALLOCATION_SIZE * 2));
+    }
+}
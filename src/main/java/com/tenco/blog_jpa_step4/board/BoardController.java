@@ -1,15 +1,19 @@
 package com.tenco.blog_jpa_step4.board;
 
-import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.tenco.blog_jpa_step4.commom.utils.ApiUtil;
+import com.tenco.blog_jpa_step4.commom.utils.CursorPage;
 import com.tenco.blog_jpa_step4.commom.utils.Define;
 import com.tenco.blog_jpa_step4.commom.utils.JwtUtil;
 import com.tenco.blog_jpa_step4.user.User;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,53 +22,88 @@ import java.util.List;
  */
 @Slf4j
 @RequiredArgsConstructor
+@Timed(value = "blog.controller", histogram = true) // 핸들러 메서드별 실행 시간 측정
 @RestController // @Controller -> @RestController로 변경
 public class BoardController {
 
     private final BoardService boardService; // BoardService 주입
 
     /**
-     * 게시글 목록 조회 처리 메서드
-     * 요청 주소: **GET http://localhost:8080/api/boards**
+     * 게시글 목록 조회 처리 메서드 (키셋 페이징)
+     * 요청 주소: **GET http://localhost:8080/boards?after={cursor}&size={size}**
+     * If-None-Match 가 현재 ETag 와 같으면 목록을 조회하지 않고 304 를 응답합니다.
      *
-     * @return 게시글 목록 DTO 리스트
+     * @param after 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 게시글 목록 페이지 (변경이 없으면 304)
      */
     @GetMapping({"/boards", "/"})
-    public ResponseEntity<List<BoardResponse.ListDTO>> getAllBoards() {
-        List<BoardResponse.ListDTO> boardList = boardService.getAllBoards();
-        return ResponseEntity.ok(boardList);
+    public ResponseEntity<ApiUtil<CursorPage<BoardResponse.ListDTO>>> getAllBoards(
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size", required = false) Integer size, WebRequest webRequest) {
+        // id, version 만 조회해서 ETag 비교 (같으면 304, ETag 헤더는 checkNotModified 가 설정)
+        if (webRequest.checkNotModified(boardService.getBoardListETag(after, size))) {
+            return null;
+        }
+        CursorPage<BoardResponse.ListDTO> boardPage = boardService.getAllBoards(after, size);
+        return ResponseEntity.ok(new ApiUtil<>(boardPage));
+    }
+
+    /**
+     * 게시글 검색 처리 메서드
+     * 요청 주소: **GET http://localhost:8080/boards/search?q={검색어}&page={page}&size={size}**
+     *
+     * @param q 검색어 (제목, 내용 대상)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 점수 순으로 정렬된 검색 결과
+     */
+    @GetMapping("/boards/search")
+    public ResponseEntity<ApiUtil<BoardResponse.SearchDTO>> searchBoards(
+            @RequestParam(name = "q", required = false) String q,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size) {
+        BoardResponse.SearchDTO searchResult = boardService.searchBoards(q, page, size);
+        return ResponseEntity.ok(new ApiUtil<>(searchResult));
     }
 
     /**
      * 게시글 상세보기 처리 메서드
      * 요청 주소: **GET http://localhost:8080/boards/{id}**
+     * If-None-Match / If-Modified-Since 가 현재 게시글 버전과 같으면 상세 정보를 조회하지 않고 304 를 응답합니다.
      *
      * @param id 게시글의 ID
      * @param request HTTP 요청 객체
-     * @return 게시글 상세보기 DTO
+     * @return 게시글 상세보기 DTO (변경이 없으면 304)
      */
     @GetMapping("/boards/{id}")
-    public ResponseEntity<ApiUtil<BoardResponse.DetailDTO>> getBoardDetail(@PathVariable(name = "id") Integer id, HttpServletRequest request) {
-        User sessionUser = null;
-
-        // api 경로가 아니기 때문에 JWT 확인 해야 함
-        String authorizationHeader = request.getHeader(Define.AUTHORIZATION);
-        if (authorizationHeader != null && authorizationHeader.startsWith(Define.BEARER)) {
-            String token = authorizationHeader.replace(Define.BEARER, "");
-            try {
-                sessionUser = JwtUtil.verify(token);
-            } catch (TokenExpiredException e) {
-                return ResponseEntity.status(401).body(new ApiUtil<>(401, "토큰이 만료되었습니다. 다시 로그인해주세요."));
-            } catch (Exception e) {
-                return ResponseEntity.status(401).body(new ApiUtil<>(401, "유효하지 않은 토큰입니다."));
-            }
+    public ResponseEntity<ApiUtil<BoardResponse.DetailDTO>> getBoardDetail(@PathVariable(name = "id") Integer id, HttpServletRequest request,
+                                                                           HttpServletResponse response, WebRequest webRequest) {
+        // api 경로가 아니기 때문에 JWT 확인 해야 함 (토큰이 없으면 비로그인, 잘못된 토큰은 401)
+        User sessionUser = JwtUtil.verifyOptional(request.getHeader(Define.AUTHORIZATION));
+
+        // 조건부 GET - 버전만 조회해서 비교 (같으면 304, 게시글/댓글 조회 및 직렬화 생략)
+        // 작성자 여부(isOwner)가 사용자마다 다르므로 ETag 에 사용자 ID 를 포함
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        BoardVersion version = boardService.getBoardVersion(id);
+        if (webRequest.checkNotModified(detailETag(id, version.getVersion(), sessionUser), version.getUpdatedAt().getTime())) {
+            return null;
         }
 
         // 게시글 상세보기 로직
-        BoardResponse.DetailDTO boardDetail = boardService.getBoardDetails(id, sessionUser);
+        BoardResponse.DetailDTO boardDetail = boardService.getBoardDetails(id, sessionUser, version.getVersion());
+        // 버전 조회 후 게시글이 변경되었을 수 있으므로 본문의 버전으로 헤더를 다시 설정
+        response.setHeader(HttpHeaders.ETAG, detailETag(id, boardDetail.getVersion(), sessionUser));
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, boardDetail.getUpdatedAt());
         return ResponseEntity.ok(new ApiUtil<>(boardDetail));
     }
 
+    // 게시글 상세 ETag - "게시글ID-버전-사용자ID" (비로그인 사용자는 0)
+    private static String detailETag(int boardId, long version, User sessionUser) {
+        int viewerId = sessionUser != null ? sessionUser.getId() : 0;
+        return "\"" + boardId + "-" + version + "-" + viewerId + "\"";
+    }
+
     /**
      * 게시글 작성 처리 메서드
      * 요청 주소: POST http://localhost:8080/api/boards
@@ -80,6 +119,21 @@ public class BoardController {
         return ResponseEntity.ok(new ApiUtil<>(savedBoard));
     }
 
+    /**
+     * 게시글 일괄 작성 처리 메서드
+     * 요청 주소: POST http://localhost:8080/api/boards/batch
+     * @param reqDTOs 게시글 작성 요청 DTO 목록 (최대 BoardService.BATCH_LIMIT 개)
+     * @return 작성된 게시글 DTO 목록
+     */
+    @PostMapping("/api/boards/batch")
+    public ResponseEntity<?> createBoards(@RequestBody List<BoardRequest.SaveDTO> reqDTOs, HttpServletRequest request) {
+        User sessionUser = (User) request.getAttribute(Define.SESSION_USER); // 인터셉터에서 설정한 사용자 정보 가져오기
+
+        // 게시글 일괄 작성 서비스 호출
+        List<BoardResponse.DTO> savedBoards = boardService.createBoards(reqDTOs, sessionUser);
+        return ResponseEntity.ok(new ApiUtil<>(savedBoards));
+    }
+
     /**
      * 게시글 수정 처리 메서드
      * 요청 주소: PUT http://localhost:8080/api/boards/{id}
@@ -0,0 +1,57 @@
+package com.tenco.blog_jpa_step4.board;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tenco.blog_jpa_step4.commom.utils.TransactionUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * BoardDetailCache 는 게시글 상세 정보를 보관하는 로컬(in-process) 캐시입니다.
+ * 사용자와 무관한 DetailDTO 만 보관하고, 작성자 여부(isOwner)는 조회 시점에 복사본에 적용합니다.
+ * 최대 개수(max-size)와 유지 시간(ttl)을 넘으면 자동으로 제거됩니다.
+ */
+@Component
+public class BoardDetailCache {
+
+    private final Cache<Integer, BoardResponse.DetailDTO> cache;
+
+    public BoardDetailCache(@Value("${board.detail-cache.max-size:1000}") long maxSize,
+                            @Value("${board.detail-cache.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 캐시에서 게시글 상세 정보를 조회하고, 없으면 loader 로 조회해서 저장합니다.
+     * 동일한 게시글에 대한 동시 요청은 한 번만 loader 를 실행합니다.
+     * @param boardId 게시글 ID
+     * @param loader 캐시에 없을 때 DB 에서 조회하는 함수
+     * @return 사용자와 무관한 게시글 상세 DTO (공유 객체이므로 수정 금지)
+     */
+    public BoardResponse.DetailDTO get(int boardId, Function<Integer, BoardResponse.DetailDTO> loader) {
+        return cache.get(boardId, loader);
+    }
+
+    /**
+     * 게시글 상세 캐시를 무효화합니다.
+     * 커밋 전에 다른 요청이 이전 데이터로 캐시를 다시 채울 수 있으므로 커밋 후에 한 번 더 제거합니다.
+     * @param boardId 게시글 ID
+     */
+    public void evict(int boardId) {
+        cache.invalidate(boardId);
+        TransactionUtil.afterCommit(() -> cache.invalidate(boardId));
+    }
+
+    /**
+     * 전체 게시글 상세 캐시를 무효화합니다. (데이터 가져오기 등 대량 변경 후 사용)
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,30 @@
+package com.tenco.blog_jpa_step4.board;
+
+import com.tenco.blog_jpa_step4.commom.utils.TransactionUtil;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * BoardEntityCache 는 Hibernate 2차 캐시(board 영역)에서 게시글 한 건만 제거합니다.
+ * 댓글 수/버전 증가는 영역 전체가 비워지지 않도록 쿼리 공간 없는 네이티브 UPDATE 로 실행하므로 (BoardJPARepository 참고)
+ * 변경한 게시글은 호출한 쪽에서 직접 제거해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardEntityCache {
+
+    private final EntityManagerFactory emf;
+
+    /**
+     * 게시글을 2차 캐시에서 제거합니다.
+     * 커밋 전에 다른 트랜잭션이 이전 값으로 다시 채울 수 있으므로 커밋 후에 한 번 더 제거합니다.
+     * @param boardId 게시글 ID
+     */
+    public void evict(int boardId) {
+        Cache cache = emf.getCache();
+        cache.evict(Board.class, boardId);
+        TransactionUtil.afterCommit(() -> cache.evict(Board.class, boardId));
+    }
+}
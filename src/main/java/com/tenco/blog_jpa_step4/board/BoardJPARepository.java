@@ -1,9 +1,15 @@
 package com.tenco.blog_jpa_step4.board;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 // BoardJPARepository는 Board 엔티티에 대한 CRUD 기능을 제공한다.
@@ -13,4 +19,55 @@ public interface BoardJPARepository extends JpaRepository<Board, Integer> {
     // 커스텀 쿼리 메서드: Board와 User를 조인하여 특정 Board 조회
     @Query("select b from Board b join fetch b.user u where b.id = :id")
     Optional<Board> findByIdJoinUser(@Param("id") int id);
+
+    // 키셋(커서) 페이징 + DTO 프로젝션 - OFFSET 없이 PK 인덱스로 cursor 다음 위치부터 읽는다.
+    // LIMIT 은 Pageable 의 크기로 적용된다. (id < :cursor ORDER BY id DESC LIMIT N)
+    // 목록에 필요한 id, title 컬럼만 조회해서 ListDTO 를 바로 생성한다.
+    // 엔티티가 아니므로 영속성 컨텍스트(스냅샷, 지연 로딩 프록시)에 올라가지 않는다.
+    @Query("select new com.tenco.blog_jpa_step4.board.BoardResponse$ListDTO(b.id, b.title, b.replyCount) " +
+            "from Board b where b.id < :cursor order by b.id desc")
+    List<BoardResponse.ListDTO> findListByCursor(@Param("cursor") int cursor, Pageable pageable);
+
+    // 검색 색인 생성용 - 필요한 컬럼만 ID 순서로 나눠서 조회
+    @Query("select b.id as id, b.title as title, b.content as content " +
+            "from Board b where b.id > :cursor order by b.id asc")
+    List<BoardSearchSource> findSearchSourcesAfter(@Param("cursor") int cursor, Pageable pageable);
+
+    // 검색 결과 목록 - 지정한 게시글들의 목록 DTO 조회 (순서는 호출한 쪽에서 정렬)
+    @Query("select new com.tenco.blog_jpa_step4.board.BoardResponse$ListDTO(b.id, b.title, b.replyCount) " +
+            "from Board b where b.id in :ids")
+    List<BoardResponse.ListDTO> findListByIds(@Param("ids") List<Integer> ids);
+
+    // 조건부 GET 용 - 버전과 변경 시간만 조회 (게시글 본문, 작성자, 댓글은 읽지 않음)
+    @Query("select b.id as id, b.version as version, b.updatedAt as updatedAt from Board b where b.id = :id")
+    Optional<BoardVersion> findVersionById(@Param("id") int id);
+
+    // 목록 ETag 용 - 목록 페이지와 같은 범위의 id, version 만 조회
+    @Query("select b.id as id, b.version as version, b.updatedAt as updatedAt " +
+            "from Board b where b.id < :cursor order by b.id desc")
+    List<BoardVersion> findVersionsByCursor(@Param("cursor") int cursor, Pageable pageable);
+
+    // 아래 UPDATE 는 JPQL 대신 네이티브 쿼리로 실행한다.
+    // JPQL 벌크 UPDATE 는 2차 캐시 board 영역 전체를 비우므로, 쿼리 공간을 빈 값("")으로 지정해서 (어떤 캐시 영역과도 겹치지 않음)
+    // 영역을 유지하고, 호출한 쪽에서 변경한 게시글만 제거한다. (BoardEntityCache.evict)
+
+    // 게시글 변경 표시 - 버전 증가 및 변경 시간 갱신 (수정 내용을 먼저 flush)
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ""))
+    @Query(value = "UPDATE board_tb SET version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE id = :id",
+            nativeQuery = true)
+    int touch(@Param("id") int id);
+
+    // 댓글 수 증감 - 조회 후 수정(read-modify-write) 하지 않고 DB 에서 원자적으로 계산 (버전도 함께 증가)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ""))
+    @Query(value = "UPDATE board_tb SET reply_count = reply_count + 1, version = version + 1, " +
+            "updated_at = CURRENT_TIMESTAMP WHERE id = :id", nativeQuery = true)
+    int incrementReplyCount(@Param("id") int id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ""))
+    @Query(value = "UPDATE board_tb SET reply_count = reply_count - 1, version = version + 1, " +
+            "updated_at = CURRENT_TIMESTAMP WHERE id = :id AND reply_count > 0", nativeQuery = true)
+    int decrementReplyCount(@Param("id") int id);
 }
\ No newline at end of file
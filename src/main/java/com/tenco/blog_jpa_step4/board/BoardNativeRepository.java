@@ -5,9 +5,11 @@ import java.util.List;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tenco.blog_jpa_step4.reply.Reply;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
 
 /**
  * 네이티비 쿼리로 데이터를 가져 오는 방법 !!! 
@@ -57,6 +59,34 @@ public class BoardNativeRepository {
         return query.getResultList();
     }
 
+    /**
+     * 가장 큰 게시글 ID를 조회합니다. (게시글이 없으면 0)
+     */
+    public int findMaxId() {
+        Query query = em.createNativeQuery("SELECT COALESCE(MAX(id), 0) FROM board_tb");
+        return ((Number) query.getSingleResult()).intValue();
+    }
+
+    /**
+     * ID 범위 (fromId, toId] 게시글의 댓글 수(reply_count)를 실제 ACTIVE 댓글 수로 보정합니다.
+     * 값이 다른 행만 수정(버전 증가)하며, 범위 단위로 트랜잭션을 나눠 잠금 시간을 짧게 유지합니다.
+     * @return 보정된 게시글 수
+     */
+    @Transactional
+    public int reconcileReplyCount(int fromId, int toId) {
+        // 1. 댓글 수 보정 SQL 작성
+        String activeCount = "(SELECT COUNT(*) FROM reply_tb r WHERE r.board_id = b.id AND r.status = 'ACTIVE')";
+        Query query = em.createNativeQuery(
+            "UPDATE board_tb b SET reply_count = " + activeCount + ", version = version + 1, updated_at = NOW()" +
+            " WHERE b.id > ? AND b.id <= ? AND b.reply_count <> " + activeCount);
+        // 2. SQL 파라미터 설정 (변경 대상 엔티티 지정 - 2차 캐시는 board 영역만 비움)
+        query.setParameter(1, fromId);
+        query.setParameter(2, toId);
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(Board.class);
+        // 3. SQL 실행
+        return query.executeUpdate();
+    }
+
     /**
      * 특정 ID의 게시글을 업데이트합니다.
      */
@@ -73,6 +103,24 @@ public class BoardNativeRepository {
         query.executeUpdate();
     }
 
+    /**
+     * 게시글과 남은 댓글을 한 트랜잭션에서 삭제합니다. (댓글 엔티티를 조회하지 않음)
+     * @return 삭제된 게시글 수 (이미 삭제되었으면 0)
+     */
+    @Transactional
+    public int deleteWithReplies(int id) {
+        // 1. 남은 댓글 삭제 (나눠서 삭제하는 동안 새로 작성된 댓글 포함)
+        Query replyQuery = em.createNativeQuery("DELETE FROM reply_tb WHERE board_id = ?");
+        replyQuery.setParameter(1, id);
+        replyQuery.unwrap(NativeQuery.class).addSynchronizedEntityClass(Reply.class);
+        replyQuery.executeUpdate();
+        // 2. 게시글 삭제 (빈 query space - 2차 캐시 영역을 비우지 않고, 호출하는 쪽에서 이 게시글만 제거)
+        Query boardQuery = em.createNativeQuery("DELETE FROM board_tb WHERE id = ?");
+        boardQuery.setParameter(1, id);
+        boardQuery.unwrap(NativeQuery.class).addSynchronizedQuerySpace("");
+        return boardQuery.executeUpdate();
+    }
+
     /**
      * 특정 ID의 게시글을 삭제합니다.
      */
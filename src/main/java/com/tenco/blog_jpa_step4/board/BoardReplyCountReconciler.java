@@ -0,0 +1,34 @@
+package com.tenco.blog_jpa_step4.board;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * BoardReplyCountReconciler 는 board_tb.reply_count 와 실제 ACTIVE 댓글 수의 차이를 보정하는 작업입니다.
+ * 댓글 작성/삭제 시 원자적으로 증감하지만, 직접 수정한 데이터 등으로 생긴 차이를 주기적으로 복구합니다.
+ * 게시글 ID 범위 단위(BATCH_SIZE)로 나눠 실행하므로 한 트랜잭션이 오래 잠금을 잡지 않습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BoardReplyCountReconciler {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final BoardNativeRepository boardNativeRepository;
+
+    @Scheduled(cron = "${board.reply-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        int maxId = boardNativeRepository.findMaxId();
+        int repaired = 0;
+        for (int fromId = 0; fromId < maxId; fromId += BATCH_SIZE) {
+            repaired += boardNativeRepository.reconcileReplyCount(fromId, Math.min(fromId + BATCH_SIZE, maxId));
+        }
+
+        if (repaired > 0) {
+            log.warn("게시글 댓글 수 불일치 {}건을 보정했습니다.", repaired);
+        }
+    }
+}
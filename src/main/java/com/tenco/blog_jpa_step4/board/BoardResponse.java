@@ -1,5 +1,7 @@
 package com.tenco.blog_jpa_step4.board;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.tenco.blog_jpa_step4.commom.utils.CursorPage;
 import com.tenco.blog_jpa_step4.reply.Reply;
 import com.tenco.blog_jpa_step4.user.User;
 import lombok.Getter;
@@ -38,25 +40,70 @@ public class BoardResponse {
         private int userId;
         private String username; // 게시글 작성자 이름
         private boolean isOwner; // 현재 사용자가 작성자인지 여부
-        private List<ReplyDTO> replies = new ArrayList<>(); // 댓글 목록
+        private List<ReplyDTO> replies = new ArrayList<>(); // 댓글 목록 (최대 REPLY_LIMIT 개)
+        private String nextReplyCursor; // 나머지 댓글 조회용 커서 (GET /boards/{id}/replies?after=, 없으면 null)
+        @JsonIgnore
+        private long version; // 응답 ETag 용 게시글 버전
+        @JsonIgnore
+        private long updatedAt; // 응답 Last-Modified 용 변경 시간 (epoch millis)
 
-        // 게시글 상세 정보를 담은 생성자
-        public DetailDTO(Board board, User sessionUser) {
+        public static final int REPLY_LIMIT = 20; // 상세보기에 포함하는 최대 댓글 수
+
+        // 게시글 상세 정보를 담은 생성자 (사용자와 무관, isOwner 는 모두 false)
+        // 댓글은 REPLY_LIMIT 개까지만 포함하고, 나머지는 nextReplyCursor 로 댓글 목록 API 에서 이어서 조회
+        // @param replies 댓글 첫 페이지 (REPLY_LIMIT + 1 개까지 조회한 결과)
+        public DetailDTO(Board board, List<Reply> replies) {
             this.id = board.getId();
             this.title = board.getTitle();
             this.content = board.getContent();
             this.userId = board.getUser().getId();
             this.username = board.getUser().getUsername(); // join 해서 가져왔음
             this.isOwner = false;
-            if(sessionUser != null){
-                if(sessionUser.getId() == userId) isOwner = true;
-            }
+            this.version = board.getVersion();
+            this.updatedAt = board.getUpdatedAt().getTime();
 
             // 게시글의 댓글 목록을 ReplyDTO로 변환하여 설정
-            for (Reply reply : board.getReplies()) {
-                this.replies.add(new ReplyDTO(reply, sessionUser));
+            CursorPage<Reply> replyPage = CursorPage.of(replies, REPLY_LIMIT, Reply::getId);
+            for (Reply reply : replyPage.getItems()) {
+                this.replies.add(new ReplyDTO(reply));
+            }
+            this.nextReplyCursor = replyPage.getNextCursor();
+        }
+
+        // 복사 생성자 - 캐시된 DTO 는 여러 요청이 공유하므로 직접 수정하지 않고 복사본을 만든다.
+        private DetailDTO(DetailDTO source) {
+            this.id = source.id;
+            this.title = source.title;
+            this.content = source.content;
+            this.userId = source.userId;
+            this.username = source.username;
+            this.isOwner = false;
+            for (ReplyDTO reply : source.replies) {
+                this.replies.add(new ReplyDTO(reply));
+            }
+            this.nextReplyCursor = source.nextReplyCursor;
+            this.version = source.version;
+            this.updatedAt = source.updatedAt;
+        }
+
+        /**
+         * 현재 사용자 기준의 작성자 여부(isOwner)를 적용한 복사본을 반환합니다.
+         * @param sessionUser 현재 세션 사용자 정보 (비로그인이면 null)
+         */
+        public DetailDTO forViewer(User sessionUser) {
+            DetailDTO detail = new DetailDTO(this);
+            detail.applyOwner(sessionUser);
+            return detail;
+        }
+
+        private void applyOwner(User sessionUser) {
+            if (sessionUser == null) {
+                return;
+            }
+            if (sessionUser.getId() == userId) isOwner = true;
+            for (ReplyDTO reply : replies) {
+                reply.isOwner = sessionUser.getId().equals(reply.userId);
             }
-            //this.replies = board.getReplies().stream().map(reply -> new ReplyDTO(reply, sessionUser)).toList();
         }
 
         @Getter
@@ -69,27 +116,79 @@ public class BoardResponse {
             private boolean isOwner; // 현재 사용자가 댓글 작성자인지 여부
 
             // 댓글의 기본 정보를 담은 생성자
-            public ReplyDTO(Reply reply, User sessionUser) {
+            public ReplyDTO(Reply reply) {
                 this.id = reply.getId(); // lazy loading 발동
                 this.comment = reply.getComment();
                 this.userId = reply.getUser().getId();
                 this.username = reply.getUser().getUsername(); // lazy loading 발동 (in query)
-                this.isOwner = sessionUser != null && sessionUser.getId().equals(userId);
+                this.isOwner = false;
+            }
+
+            // 복사 생성자
+            private ReplyDTO(ReplyDTO source) {
+                this.id = source.id;
+                this.comment = source.comment;
+                this.userId = source.userId;
+                this.username = source.username;
+                this.isOwner = false;
             }
         }
     }
 
+    // 게시글 검색 결과를 위한 DTO 클래스
+    @Getter
+    @Setter
+    public static class SearchDTO {
+        private String query; // 검색어
+        private int total; // 전체 검색 결과 수
+        private int page; // 현재 페이지 (0부터 시작)
+        private int size; // 페이지 크기
+        private List<ListDTO> boards; // 검색 결과 (점수 순)
+
+        public SearchDTO(String query, int total, int page, int size, List<ListDTO> boards) {
+            this.query = query;
+            this.total = total;
+            this.page = page;
+            this.size = size;
+            this.boards = boards;
+        }
+    }
+
+    // 게시글 데이터 가져오기(import) 결과 DTO 클래스
+    @Getter
+    @Setter
+    public static class ImportDTO {
+        private long users; // 저장한 사용자 수
+        private long boards; // 저장한 게시글 수
+        private long replies; // 저장한 댓글 수
+
+        public ImportDTO(long users, long boards, long replies) {
+            this.users = users;
+            this.boards = boards;
+            this.replies = replies;
+        }
+    }
+
     // 게시글 목록보기 화면을 위한 DTO 클래스
     @Getter
     @Setter
     public static class ListDTO {
         private int id;
         private String title;
+        private int replyCount; // 댓글 수
 
         // 게시글의 기본 정보를 담은 생성자
         public ListDTO(Board board) {
             this.id = board.getId();
             this.title = board.getTitle();
+            this.replyCount = board.getReplyCount();
+        }
+
+        // JPQL 프로젝션(select new ...)에서 사용하는 생성자
+        public ListDTO(Integer id, String title, Integer replyCount) {
+            this.id = id;
+            this.title = title;
+            this.replyCount = replyCount;
         }
     }
 }
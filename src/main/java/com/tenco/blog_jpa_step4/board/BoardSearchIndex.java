@@ -0,0 +1,210 @@
+package com.tenco.blog_jpa_step4.board;
+
+import com.tenco.blog_jpa_step4.commom.utils.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BoardSearchIndex 는 게시글 제목과 내용을 대상으로 하는 메모리 역색인(inverted index)입니다.
+ * - 영문/숫자: 단어 단위 토큰 (소문자 변환)
+ * - 한글: 2글자 단위(bigram) 토큰 - 조사가 붙은 단어도 부분 일치로 검색 가능 ("게시글을" -> "게시", "시글", "글을")
+ * 검색 결과는 TF-IDF 점수 순으로 정렬하며, 제목에 포함된 토큰은 가중치(TITLE_WEIGHT)를 더 준다.
+ * 애플리케이션 시작 시 board_tb 를 나눠 읽어 색인을 만들고, 이후에는 게시글 작성/수정/삭제 시 갱신합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BoardSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int TITLE_WEIGHT = 3;
+
+    // 검색 결과 순서 - 점수 내림차순, 점수가 같으면 최신 글(ID 내림차순) 우선
+    private static final Comparator<Map.Entry<Integer, Double>> RANK_ORDER =
+            Map.Entry.<Integer, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Integer, Double>comparingByKey().reversed());
+
+    private final BoardJPARepository boardJPARepository;
+
+    // 역색인 - 토큰 -> (게시글 ID -> 가중치가 적용된 출현 빈도)
+    private final Map<String, Map<Integer, Integer>> postings = new ConcurrentHashMap<>();
+    // 게시글 ID -> 색인된 토큰별 빈도 (수정/삭제 시 이전 토큰을 지우기 위해 보관)
+    private final Map<Integer, Map<String, Integer>> documents = new ConcurrentHashMap<>();
+
+    /**
+     * 검색 결과
+     * @param total 전체 검색 결과 수
+     * @param ids 요청한 페이지의 게시글 ID (점수 순)
+     */
+    public record SearchResult(int total, List<Integer> ids) {
+    }
+
+    /**
+     * 애플리케이션 시작 시 board_tb 를 키셋 페이징으로 나눠 읽어 색인을 만듭니다.
+     * 한 번에 LOAD_BATCH_SIZE 건만 메모리에 올립니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        int cursor = 0;
+        List<BoardSearchSource> batch;
+        do {
+            batch = boardJPARepository.findSearchSourcesAfter(cursor, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (BoardSearchSource source : batch) {
+                put(source.getId(), source.getTitle(), source.getContent());
+                cursor = source.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        log.info("게시글 검색 색인 생성 완료 - 게시글 {}건, 토큰 {}개 ({}ms)",
+                documents.size(), postings.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 게시글을 색인에 추가하거나 갱신합니다. (트랜잭션 안에서 호출되면 커밋 후 반영)
+     */
+    public void index(int boardId, String title, String content) {
+        TransactionUtil.afterCommit(() -> put(boardId, title, content));
+    }
+
+    /**
+     * 게시글을 색인에서 제거합니다. (트랜잭션 안에서 호출되면 커밋 후 반영)
+     */
+    public void remove(int boardId) {
+        TransactionUtil.afterCommit(() -> documents.computeIfPresent(boardId, (id, oldTerms) -> {
+            removePostings(id, oldTerms);
+            return null;
+        }));
+    }
+
+    /**
+     * 검색어와 일치하는 게시글 ID를 점수 순으로 반환합니다.
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        int documentCount = Math.max(documents.size(), 1);
+
+        Map<Integer, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            Map<Integer, Integer> matched = postings.get(term);
+            if (matched == null || matched.isEmpty()) {
+                continue;
+            }
+            double idf = Math.log(1.0 + (double) documentCount / matched.size());
+            for (Map.Entry<Integer, Integer> entry : matched.entrySet()) {
+                scores.merge(entry.getKey(), entry.getValue() * idf, Double::sum);
+            }
+        }
+
+        // 전체 결과를 정렬하지 않고 offset + limit 개만 힙으로 골라낸다. (힙의 맨 앞이 가장 낮은 순위)
+        int topK = offset + limit;
+        PriorityQueue<Map.Entry<Integer, Double>> top = new PriorityQueue<>(RANK_ORDER.reversed());
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > topK) {
+                top.poll();
+            }
+        }
+
+        List<Map.Entry<Integer, Double>> ranked = new ArrayList<>(top);
+        ranked.sort(RANK_ORDER);
+        List<Integer> ids = ranked.stream()
+                .skip(offset)
+                .map(Map.Entry::getKey)
+                .toList();
+        return new SearchResult(scores.size(), ids);
+    }
+
+    // 같은 게시글에 대한 갱신은 documents.compute 로 순서대로 처리된다.
+    private void put(int boardId, String title, String content) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, title, TITLE_WEIGHT);
+        addTerms(terms, content, 1);
+
+        documents.compute(boardId, (id, oldTerms) -> {
+            if (oldTerms != null) {
+                removePostings(id, oldTerms);
+            }
+            for (Map.Entry<String, Integer> term : terms.entrySet()) {
+                postings.compute(term.getKey(), (t, docs) -> {
+                    if (docs == null) {
+                        docs = new ConcurrentHashMap<>();
+                    }
+                    docs.put(id, term.getValue());
+                    return docs;
+                });
+            }
+            return terms;
+        });
+    }
+
+    private void removePostings(int boardId, Map<String, Integer> terms) {
+        for (String term : terms.keySet()) {
+            postings.computeIfPresent(term, (t, docs) -> {
+                docs.remove(boardId);
+                return docs.isEmpty() ? null : docs;
+            });
+        }
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+
+    /**
+     * 텍스트를 토큰으로 나눕니다.
+     * 문자/숫자가 아닌 문자를 구분자로 사용하고, 한글 구간은 bigram 으로, 그 외 구간은 단어로 나눕니다.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        boolean hangul = false;
+        for (int i = 0; i <= lower.length(); i++) {
+            char ch = i < lower.length() ? lower.charAt(i) : ' ';
+            boolean letterOrDigit = Character.isLetterOrDigit(ch);
+            boolean chHangul = letterOrDigit && isHangul(ch);
+
+            // 구간이 끝나는 위치 (구분자를 만나거나 한글/영문 구간이 바뀔 때)
+            if (start >= 0 && (!letterOrDigit || chHangul != hangul)) {
+                addRun(tokens, lower.substring(start, i), hangul);
+                start = -1;
+            }
+            if (letterOrDigit && start < 0) {
+                start = i;
+                hangul = chHangul;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addRun(List<String> tokens, String run, boolean hangul) {
+        if (!hangul || run.length() == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 2 <= run.length(); i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(char ch) {
+        return Character.UnicodeScript.of(ch) == Character.UnicodeScript.HANGUL;
+    }
+}
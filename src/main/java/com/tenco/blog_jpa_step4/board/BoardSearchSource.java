@@ -0,0 +1,13 @@
+package com.tenco.blog_jpa_step4.board;
+
+/**
+ * 검색 색인 생성에 필요한 컬럼만 조회하기 위한 인터페이스 프로젝션입니다.
+ */
+public interface BoardSearchSource {
+
+    Integer getId();
+
+    String getTitle();
+
+    String getContent();
+}
@@ -1,29 +1,127 @@
 package com.tenco.blog_jpa_step4.board;
 
+import com.tenco.blog_jpa_step4.commom.errors.Exception400;
 import com.tenco.blog_jpa_step4.commom.errors.Exception403;
 import com.tenco.blog_jpa_step4.commom.errors.Exception404;
+import com.tenco.blog_jpa_step4.commom.utils.CursorPage;
+import com.tenco.blog_jpa_step4.reply.Reply;
+import com.tenco.blog_jpa_step4.reply.ReplyJPARepository;
 import com.tenco.blog_jpa_step4.user.User;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
+@Timed(value = "blog.service", histogram = true) // 서비스 메서드별 실행 시간 측정
 @Service // 서비스 계층으로 등록
 public class BoardService {
 
+    public static final int BATCH_LIMIT = 1000; // 일괄 작성 요청 한 번에 저장할 수 있는 최대 게시글 수
+    private static final int FLUSH_INTERVAL = 50; // hibernate.jdbc.batch_size 와 같은 단위로 flush
+    static final int REPLY_DELETE_CHUNK_SIZE = 1000; // 게시글 삭제 시 한 트랜잭션에서 삭제하는 댓글 수
+    public static final int SEARCH_MAX_OFFSET = 10_000; // 검색 결과에서 건너뛸 수 있는 최대 개수 (page * size)
+
+    private final EntityManager em;
     private final BoardJPARepository boardJPARepository;
+    private final BoardNativeRepository boardNativeRepository;
+    private final ReplyJPARepository replyJPARepository;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardEntityCache boardEntityCache;
+    private final BoardSearchIndex boardSearchIndex;
+
+    /**
+     * 게시글 목록 조회 서비스 (키셋 페이징)
+     * @param after 이전 페이지에서 받은 커서 (없으면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 게시글 목록 페이지
+     */
+    @Transactional(readOnly = true) // 복제본(replica)에서 조회
+    public CursorPage<BoardResponse.ListDTO> getAllBoards(String after, Integer size) {
+        int pageSize = CursorPage.clampSize(size);
+        int cursor = CursorPage.decode(after, Integer.MAX_VALUE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (DTO 프로젝션)
+        List<BoardResponse.ListDTO> boards = boardJPARepository.findListByCursor(cursor, PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(boards, pageSize, BoardResponse.ListDTO::getId);
+    }
 
     /**
-     * 게시글 목록 조회 서비스
-     * @return 게시글 목록의 DTO 리스트
+     * 게시글 목록 ETag 계산 서비스
+     * 목록 페이지와 같은 범위(size + 1 건)의 id, version 만 조회해서 해시를 만든다.
+     * 게시글 추가/삭제/수정, 댓글 수 변경 시 값이 바뀐다.
+     * @param after 이전 페이지에서 받은 커서 (없으면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 강한(strong) ETag 값 (따옴표 포함)
      */
-    public List<BoardResponse.ListDTO> getAllBoards() {
-        Sort sort = Sort.by(Sort.Direction.DESC, "id");
-        List<Board> boards = boardJPARepository.findAll(sort);
-        return boards.stream().map(BoardResponse.ListDTO::new).toList();
+    @Transactional(readOnly = true)
+    public String getBoardListETag(String after, Integer size) {
+        int pageSize = CursorPage.clampSize(size);
+        int cursor = CursorPage.decode(after, Integer.MAX_VALUE);
+
+        StringBuilder versions = new StringBuilder();
+        for (BoardVersion version : boardJPARepository.findVersionsByCursor(cursor, PageRequest.of(0, pageSize + 1))) {
+            versions.append(version.getId()).append(':').append(version.getVersion()).append(',');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * 게시글 버전 조회 서비스 (조건부 GET 판단용)
+     * @param boardId 게시글 ID
+     * @return 게시글 버전과 변경 시간
+     * @throws Exception404 게시글을 찾을 수 없는 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public BoardVersion getBoardVersion(int boardId) {
+        return boardJPARepository.findVersionById(boardId)
+                .orElseThrow(() -> new Exception404("게시글을 찾을 수 없습니다"));
+    }
+
+    /**
+     * 게시글 검색 서비스 (메모리 검색 색인 사용)
+     * @param query 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 점수 순으로 정렬된 검색 결과
+     * @throws Exception400 검색어가 비어 있거나 페이지가 검색 가능한 범위(SEARCH_MAX_OFFSET)를 넘는 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public BoardResponse.SearchDTO searchBoards(String query, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new Exception400("검색어를 입력해주세요");
+        }
+        int pageSize = CursorPage.clampSize(size);
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+        long offset = (long) pageNumber * pageSize; // int 곱셈은 큰 page 에서 음수로 넘칠 수 있음
+        if (offset > SEARCH_MAX_OFFSET) {
+            throw new Exception400("검색 결과는 " + SEARCH_MAX_OFFSET + "건까지만 조회할 수 있습니다");
+        }
+
+        BoardSearchIndex.SearchResult result = boardSearchIndex.search(query, (int) offset, pageSize);
+        if (result.ids().isEmpty()) {
+            return new BoardResponse.SearchDTO(query, result.total(), pageNumber, pageSize, List.of());
+        }
+
+        // 현재 페이지의 게시글만 조회한 후 검색 점수 순서로 정렬
+        Map<Integer, BoardResponse.ListDTO> boardMap = boardJPARepository.findListByIds(result.ids()).stream()
+                .collect(Collectors.toMap(BoardResponse.ListDTO::getId, Function.identity()));
+        List<BoardResponse.ListDTO> boards = result.ids().stream()
+                .map(boardMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new BoardResponse.SearchDTO(query, result.total(), pageNumber, pageSize, boards);
     }
 
     /**
@@ -34,14 +132,37 @@ public class BoardService {
      */
     // 메서드 종료까지 영속성 컨텍스 즉 connection 열어 있음
     // @Transactional 없는 경우 오류 발생 (LazyInitializationException)
-    @Transactional
+    // readOnly = true: Hibernate 읽기 전용 세션(변경 감지용 스냅샷 없음) + FlushMode.MANUAL(커밋 시 flush 없음)
+    // 사용자와 무관한 상세 정보는 캐시에서 가져오고, 작성자 여부만 요청마다 적용
+    @Transactional(readOnly = true) // 복제본(replica)에서 조회
     public BoardResponse.DetailDTO getBoardDetails(int boardId, User sessionUser) {
+        return getBoardDetails(boardId, sessionUser, 0);
+    }
+
+    /**
+     * 게시글 상세 조회 서비스 (최소 버전 지정)
+     * 캐시된 상세 정보가 minVersion 보다 오래되었으면 다시 조회한다.
+     * 응답 ETag 는 반환된 DetailDTO 의 version 으로 만들어야 본문과 일치한다.
+     * @param minVersion 직전에 조회한 게시글 버전
+     */
+    @Transactional(readOnly = true)
+    public BoardResponse.DetailDTO getBoardDetails(int boardId, User sessionUser, long minVersion) {
+        BoardResponse.DetailDTO cachedDetail = boardDetailCache.get(boardId, this::loadBoardDetail);
+        if (cachedDetail.getVersion() < minVersion) { // 커밋 후 캐시 무효화 전에 조회된 경우
+            boardDetailCache.evict(boardId);
+            cachedDetail = boardDetailCache.get(boardId, this::loadBoardDetail);
+        }
+
+        return cachedDetail.forViewer(sessionUser);
+    }
+
+    private BoardResponse.DetailDTO loadBoardDetail(int boardId) {
         Board board = boardJPARepository.findByIdJoinUser(boardId)
                 .orElseThrow(() -> new Exception404("게시글을 찾을 수 없습니다"));
-
-        BoardResponse.DetailDTO boardDetail = new BoardResponse.DetailDTO(board, sessionUser);
-        System.out.println(boardDetail.toString());
-        return boardDetail;
+        // 댓글은 첫 페이지만 조회 (댓글 수와 관계없이 SQL 2번)
+        List<Reply> replies = replyJPARepository.findByBoardIdAfter(boardId, 0,
+                PageRequest.of(0, BoardResponse.DetailDTO.REPLY_LIMIT + 1));
+        return new BoardResponse.DetailDTO(board, replies);
     }
 
 
@@ -54,9 +175,45 @@ public class BoardService {
     @Transactional
     public BoardResponse.DTO createBoard(BoardRequest.SaveDTO reqDTO, User sessionUser) {
         Board savedBoard = boardJPARepository.save(reqDTO.toEntity(sessionUser));
+        boardSearchIndex.index(savedBoard.getId(), savedBoard.getTitle(), savedBoard.getContent());
         return new BoardResponse.DTO(savedBoard);
     }
 
+    /**
+     * 게시글 일괄 작성 서비스
+     * 하나의 트랜잭션에서 저장하며, 시퀀스 ID 와 JDBC 배치로 INSERT 를 FLUSH_INTERVAL 개씩 모아서 실행한다.
+     * flush 후 영속성 컨텍스트를 비워 저장할 게시글 수와 관계없이 메모리 사용량을 일정하게 유지한다.
+     * @param reqDTOs 게시글 작성 요청 DTO 목록
+     * @param sessionUser 현재 세션 사용자 정보
+     * @return 작성된 게시글의 DTO 목록
+     * @throws Exception400 요청 목록이 비어 있거나 BATCH_LIMIT 를 넘는 경우 발생
+     */
+    @Transactional
+    public List<BoardResponse.DTO> createBoards(List<BoardRequest.SaveDTO> reqDTOs, User sessionUser) {
+        if (reqDTOs == null || reqDTOs.isEmpty()) {
+            throw new Exception400("작성할 게시글이 없습니다");
+        }
+        if (reqDTOs.size() > BATCH_LIMIT) {
+            throw new Exception400("한 번에 최대 " + BATCH_LIMIT + "개까지 작성할 수 있습니다");
+        }
+
+        User writer = em.getReference(User.class, sessionUser.getId());
+        List<BoardResponse.DTO> savedBoards = new ArrayList<>(reqDTOs.size());
+        for (int i = 0; i < reqDTOs.size(); i++) {
+            Board board = reqDTOs.get(i).toEntity(writer);
+            em.persist(board); // 시퀀스에서 ID 만 할당하고 INSERT 는 flush 시점에 배치로 실행
+            savedBoards.add(new BoardResponse.DTO(board));
+            boardSearchIndex.index(board.getId(), board.getTitle(), board.getContent());
+
+            if ((i + 1) % FLUSH_INTERVAL == 0) {
+                em.flush();
+                em.clear();
+                writer = em.getReference(User.class, sessionUser.getId());
+            }
+        }
+        return savedBoards;
+    }
+
     /**
      * 게시글 수정 서비스
      * @param boardId 수정할 게시글의 ID
@@ -77,17 +234,23 @@ public class BoardService {
 
         board.setTitle(reqDTO.getTitle());
         board.setContent(reqDTO.getContent());
+        boardJPARepository.touch(boardId); // 변경 내용 flush 후 버전 증가 (ETag 변경)
+        boardEntityCache.evict(boardId);
+        boardDetailCache.evict(boardId);
+        boardSearchIndex.index(boardId, board.getTitle(), board.getContent());
         return new BoardResponse.DTO(board);
     }
 
     /**
      * 게시글 삭제 서비스
+     * 댓글을 REPLY_DELETE_CHUNK_SIZE 개씩 나눠서 삭제(청크마다 커밋)한 후, 마지막 트랜잭션에서 남은 댓글과 게시글을 삭제한다.
+     * 댓글 엔티티를 조회하지 않으며, 댓글이 많은 게시글도 한 트랜잭션이 오래 잠금을 잡지 않는다.
+     * 중간에 실패하면 일부 댓글만 삭제된 상태로 남으며, 다시 삭제 요청하면 이어서 삭제된다.
      * @param boardId 삭제할 게시글의 ID
      * @param sessionUserId 현재 세션 사용자 ID
      * @throws Exception404 게시글을 찾을 수 없는 경우 발생
      * @throws Exception403 권한이 없는 사용자가 삭제하려는 경우 발생
      */
-    @Transactional
     public void deleteBoard(int boardId, int sessionUserId) {
         Board board = boardJPARepository.findById(boardId)
                 .orElseThrow(() -> new Exception404("게시글을 찾을 수 없습니다"));
@@ -96,6 +259,15 @@ public class BoardService {
             throw new Exception403("게시글을 삭제할 권한이 없습니다");
         }
 
-        boardJPARepository.deleteById(boardId);
+        // 댓글 나눠서 삭제 (상태와 관계없이, 청크마다 별도 트랜잭션)
+        int deleted;
+        do {
+            deleted = replyJPARepository.deleteChunkByBoardId(boardId, REPLY_DELETE_CHUNK_SIZE);
+        } while (deleted == REPLY_DELETE_CHUNK_SIZE);
+
+        boardNativeRepository.deleteWithReplies(boardId);
+        boardEntityCache.evict(boardId);
+        boardDetailCache.evict(boardId);
+        boardSearchIndex.remove(boardId);
     }
 }
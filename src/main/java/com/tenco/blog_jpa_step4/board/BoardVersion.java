@@ -0,0 +1,15 @@
+package com.tenco.blog_jpa_step4.board;
+
+import java.sql.Timestamp;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 판단에 필요한 컬럼만 조회하기 위한 인터페이스 프로젝션입니다.
+ */
+public interface BoardVersion {
+
+    Integer getId();
+
+    long getVersion();
+
+    Timestamp getUpdatedAt();
+}
@@ -2,6 +2,7 @@ package com.tenco.blog_jpa_step4.commom;
 
 import com.tenco.blog_jpa_step4.commom.errors.*;
 import com.tenco.blog_jpa_step4.commom.utils.ApiUtil;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -35,9 +36,25 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(apiUtil, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(Exception429.class)
+    public ResponseEntity<?> ex429(Exception429 e){
+        ApiUtil<?> apiUtil = new ApiUtil<>(429, e.getMessage());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return new ResponseEntity<>(apiUtil, headers, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     @ExceptionHandler(Exception500.class)
     public ResponseEntity<?> ex500(Exception500 e){
         ApiUtil<?> apiUtil = new ApiUtil<>(500, e.getMessage());
         return new ResponseEntity<>(apiUtil, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    @ExceptionHandler(Exception503.class)
+    public ResponseEntity<?> ex503(Exception503 e){
+        ApiUtil<?> apiUtil = new ApiUtil<>(503, e.getMessage());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1"); // 1초 후 재시도
+        return new ResponseEntity<>(apiUtil, headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
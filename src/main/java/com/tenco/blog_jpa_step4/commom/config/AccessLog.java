@@ -0,0 +1,111 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import com.tenco.blog_jpa_step4.commom.utils.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * AccessLog 는 요청 접근 로그를 링 버퍼에 모았다가 백그라운드 스레드 하나가 로그로 출력하는 클래스입니다.
+ * - 요청 스레드는 버퍼에 넣기만 하므로 로그 I/O 를 기다리지 않습니다.
+ * - 버퍼가 가득 차면 기다리지 않고 버리며, 버린 개수는 blog.accesslog.dropped 로 수집됩니다.
+ * - 출력 형식 (logger 이름: ACCESS_LOG, 사용자/SQL 수를 모르면 "-"):
+ *   ts=2024-01-01T00:00:00Z method=GET path=/boards/1 status=200 latency_ms=1.234 user=1 sql=2
+ */
+@Component
+public class AccessLog {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * 요청 하나의 접근 로그
+     * @param userId 로그인 사용자 ID (없으면 null)
+     * @param sqlCount 요청에서 실행된 SQL 문 수 (측정하지 않았으면 -1)
+     */
+    public record Entry(long epochMillis, String method, String path, int status, long latencyNanos,
+                        Integer userId, int sqlCount) {
+    }
+
+    private final MpscRingBuffer<Entry> buffer;
+    private final Counter dropped;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AccessLog(@Value("${access-log.buffer-size:8192}") int bufferSize, MeterRegistry meterRegistry) {
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.dropped = Counter.builder("blog.accesslog.dropped")
+                .description("버퍼가 가득 차서 버린 접근 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("blog.accesslog.pending", buffer, MpscRingBuffer::size)
+                .description("출력 대기 중인 접근 로그 수")
+                .register(meterRegistry);
+        this.writer = new Thread(this::drainLoop, "access-log-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    /**
+     * 접근 로그를 버퍼에 넣습니다. (대기하지 않음, 가득 차면 버림)
+     */
+    public void record(Entry entry) {
+        if (!buffer.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    // 백그라운드 스레드 - 버퍼가 빌 때까지 출력하고, 비어 있으면 잠시 쉰다.
+    private void drainLoop() {
+        StringBuilder line = new StringBuilder(256);
+        while (running) {
+            if (drain(line) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        drain(line); // 종료 전 남은 로그 출력
+    }
+
+    private int drain(StringBuilder line) {
+        int written = 0;
+        Entry entry;
+        while ((entry = buffer.poll()) != null) {
+            line.setLength(0);
+            format(entry, line);
+            ACCESS_LOG.info(line.toString());
+            written++;
+        }
+        return written;
+    }
+
+    static void format(Entry entry, StringBuilder line) {
+        line.append("ts=").append(Instant.ofEpochMilli(entry.epochMillis()))
+                .append(" method=").append(entry.method())
+                .append(" path=").append(entry.path())
+                .append(" status=").append(entry.status())
+                .append(" latency_ms=").append(String.format(Locale.ROOT, "%.3f", entry.latencyNanos() / 1_000_000.0))
+                .append(" user=").append(entry.userId() != null ? entry.userId().toString() : "-")
+                .append(" sql=").append(entry.sqlCount() >= 0 ? String.valueOf(entry.sqlCount()) : "-");
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
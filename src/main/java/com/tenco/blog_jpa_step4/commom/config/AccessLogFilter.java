@@ -0,0 +1,48 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import com.tenco.blog_jpa_step4.commom.utils.Define;
+import com.tenco.blog_jpa_step4.commom.utils.JwtUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * AccessLogFilter 는 요청마다 메서드, 경로, 상태 코드, 처리 시간, 사용자 ID, SQL 실행 횟수를 AccessLog 에 기록합니다.
+ * SqlStatementFilter 바깥에서 실행되어야 SQL 실행 횟수(Define.SQL_COUNT)를 읽을 수 있습니다.
+ * 사용자는 로그인 인터셉터가 설정한 세션 사용자(/api/**)를, 없으면 (GET /boards 등 공개 경로)
+ * Authorization 헤더의 JWT 에서 확인합니다. (JwtUtil.resolveUserId)
+ */
+@Order(Ordered.LOWEST_PRECEDENCE - 1) // SqlStatementFilter(LOWEST_PRECEDENCE) 보다 먼저 = 바깥에서 실행
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private final AccessLog accessLog;
+
+    public AccessLogFilter(AccessLog accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long epochMillis = System.currentTimeMillis();
+        long start = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR; // 처리되지 않은 예외가 발생한 경우
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            Integer userId = JwtUtil.resolveUserId(request);
+            int sqlCount = request.getAttribute(Define.SQL_COUNT) instanceof Integer count ? count : -1;
+            accessLog.record(new AccessLog.Entry(epochMillis, request.getMethod(), request.getRequestURI(), status,
+                    System.nanoTime() - start, userId, sqlCount));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 설정
+ * 스프링 부트는 Module 빈을 자동으로 ObjectMapper 에 등록하므로 빈으로만 선언합니다.
+ * - Blackbird: getter/setter/생성자 호출을 리플렉션 대신 LambdaMetafactory 로 만든 람다로 실행
+ *   (ApiUtil, DetailDTO, ReplyDTO, ListDTO 등 모든 응답 DTO 에 적용, ApiUtilSerializationBenchmark 참고)
+ * - 응답은 MappingJackson2HttpMessageConverter 가 서블릿 출력 스트림에 바로 씁니다. (중간 byte[]/String 버퍼 없음)
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -46,22 +46,4 @@ public class LoginInterceptor implements HandlerInterceptor {
         }
     }
 
-
-    /**
-     * 컨트롤러 메서드 실행 후, 뷰가 렌더링되기 전에 실행되는 메서드
-     */
-    @Override
-    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
-                           org.springframework.web.servlet.ModelAndView modelAndView) throws Exception {
-        System.out.println("LoginInterceptor postHandle 실행");
-    }
-
-    /**
-     * 뷰가 렌더링된 후 실행되는 메서드
-     */
-    @Override
-    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
-        System.out.println("LoginInterceptor afterCompletion 실행");
-    }
-
 }
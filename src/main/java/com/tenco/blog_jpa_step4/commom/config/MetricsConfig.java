@@ -0,0 +1,40 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정 - /actuator/prometheus 로 수집됩니다.
+ * - @Timed 가 붙은 컨트롤러/서비스 메서드 실행 시간 (blog.controller, blog.service)
+ * - 요청별 SQL 실행 횟수 (blog.http.sql.statements, SqlStatementFilter 참고)
+ * - 2차 캐시 영역별 적중/실패 (hibernate.second.level.cache.requests{region=user|board, result=hit|miss})
+ * - Hibernate 통계 (실행 쿼리 수, 로딩된 엔티티 수, flush 횟수 등)
+ *   hibernate-micrometer 가 있으면 스프링 부트가 HibernateMetrics 를 자동 등록하므로 여기서는 통계 수집만 켠다.
+ * - Hikari 커넥션 풀 (hikaricp_connections_*) 은 스프링 부트가 자동으로 등록
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * @Timed 어노테이션을 처리하는 AOP 빈 등록
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Hibernate 통계 수집 활성화 및 요청별 SQL 실행 횟수 측정용 StatementInspector 등록 (모든 프로필 공통)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import com.tenco.blog_jpa_step4.commom.errors.Exception429;
+import com.tenco.blog_jpa_step4.commom.utils.Define;
+import com.tenco.blog_jpa_step4.commom.utils.RateLimiter;
+import com.tenco.blog_jpa_step4.user.User;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 규칙(경로 패턴) 하나의 요청 수를 제한하는 인터셉터입니다. (규칙마다 하나씩 등록, WebConfig 참고)
+ * 로그인 인터셉터 다음에 실행되어 로그인 사용자는 사용자 ID, 그 외에는 클라이언트 IP 로 구분합니다.
+ * 프록시 뒤에서 실행할 때는 server.forward-headers-strategy 를 설정해야 실제 클라이언트 IP 가 사용됩니다.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final RateLimiter rateLimiter;
+    private final Counter rejected;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, Counter rejected) {
+        this.rateLimiter = rateLimiter;
+        this.rejected = rejected;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 사용자 ID(Integer) 와 IP(String) 는 타입이 달라 같은 키로 취급되지 않음
+        Object key = request.getAttribute(Define.SESSION_USER) instanceof User sessionUser
+                ? sessionUser.getId()
+                : request.getRemoteAddr();
+
+        long waitNanos = rateLimiter.tryAcquire(key);
+        if (waitNanos > 0) {
+            rejected.increment();
+            long retryAfterSeconds = (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND; // 초 단위 올림
+            throw new Exception429("요청이 너무 많습니다. 잠시 후 다시 시도해주세요", retryAfterSeconds);
+        }
+        return true;
+    }
+}
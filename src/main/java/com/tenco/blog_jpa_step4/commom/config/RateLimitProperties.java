@@ -0,0 +1,37 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 수 제한 설정 (rate-limit.*)
+ * 경로 패턴별로 규칙을 지정하고, 요청이 여러 규칙에 해당하면 모든 규칙을 적용합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private Duration idleTimeout = Duration.ofMinutes(10); // 요청이 없는 키의 버킷을 제거하기까지의 시간
+    private long maxKeys = 100_000; // 규칙별로 보관하는 최대 키(사용자/IP) 수
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String pattern; // 경로 패턴 (예: /api/**)
+        private int limit; // period 동안 허용하는 요청 수
+        private Duration period = Duration.ofSeconds(1);
+        private int burst; // 한 번에 허용하는 요청 수 (0 이면 limit 과 같음)
+
+        public int getBurstOrLimit() {
+            return burst > 0 ? burst : limit;
+        }
+    }
+}
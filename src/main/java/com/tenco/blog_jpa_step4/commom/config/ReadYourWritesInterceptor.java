@@ -0,0 +1,57 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tenco.blog_jpa_step4.commom.utils.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * ReadYourWritesInterceptor 는 복제 지연(replica lag) 때문에 사용자가 방금 쓴 데이터를 못 읽는 문제를 막는 인터셉터입니다.
+ * - 쓰기 요청(GET, HEAD 외): 요청 전체를 원본(primary)에서 처리하고, 성공하면 사용자를 "최근 쓰기 사용자"로 기록
+ * - 읽기 요청: 최근 쓰기 사용자는 window 동안 원본에서 읽음, 그 외 사용자는 복제본(replica)에서 읽음
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    // 최근 쓰기 사용자 (키: 사용자 ID) - window 가 지나면 자동 제거
+    private final Cache<Integer, Boolean> recentWriters;
+
+    public ReadYourWritesInterceptor(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isWrite(request)) {
+            RoutingDataSource.forcePrimary();
+            return true;
+        }
+        Integer userId = JwtUtil.resolveUserId(request);
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            RoutingDataSource.forcePrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RoutingDataSource.clear();
+        if (isWrite(request) && ex == null && response.getStatus() < 400) {
+            Integer userId = JwtUtil.resolveUserId(request);
+            if (userId != null) {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !"GET".equals(method) && !"HEAD".equals(method);
+    }
+}
@@ -0,0 +1,64 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 - spring.datasource.replica.url 을 지정한 경우에만 적용됩니다.
+ * - 원본(primary): spring.datasource.* (+ spring.datasource.hikari.*)
+ * - 복제본(replica): spring.datasource.replica.* (url, username, password, driver-class-name)
+ * @Transactional(readOnly = true) 작업은 복제본으로, 나머지는 원본으로 보냅니다. (RoutingDataSource 참고)
+ * 주의: 복제본에서 읽은 데이터로 채운 캐시(게시글 상세 캐시 등)는 복제 지연만큼 오래된 값일 수 있습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties primaryProperties, Environment environment) {
+        Binder binder = Binder.get(environment);
+        DataSourceProperties replicaProperties = binder.bind("spring.datasource.replica", DataSourceProperties.class)
+                .get();
+
+        HikariDataSource primary = createPool(primaryProperties, binder, "primary");
+        HikariDataSource replica = createPool(replicaProperties, binder, "replica");
+
+        RoutingDataSource routingDataSource = new RoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                RoutingDataSource.Target.PRIMARY, primary,
+                RoutingDataSource.Target.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        // 실제 커넥션은 첫 SQL 실행 시점에 가져오도록 (그때 readOnly 여부로 대상 결정)
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesInterceptor readYourWritesInterceptor(
+            @Value("${spring.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        return new ReadYourWritesInterceptor(window);
+    }
+
+    // spring.datasource.hikari.* 설정(풀 크기 등)은 두 커넥션 풀에 같이 적용
+    private static HikariDataSource createPool(DataSourceProperties properties, Binder binder, String name) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("HikariPool-" + name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,37 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * RoutingDataSource 는 트랜잭션 종류에 따라 커넥션을 가져올 DataSource 를 고르는 클래스입니다.
+ * - @Transactional(readOnly = true) 트랜잭션: 읽기 전용 복제본(replica)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 밖): 원본(primary)
+ * 트랜잭션 시작 후 첫 SQL 실행 시점에 결정되도록 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ * (트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않음)
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    // 현재 요청은 원본에서 읽어야 하는지 여부 (쓰기 요청, 방금 쓴 사용자의 읽기 요청)
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    public static void forcePrimary() {
+        FORCE_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        FORCE_PRIMARY.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && FORCE_PRIMARY.get() == null) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
@@ -0,0 +1,61 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * slowdb 프로필 - 커넥션을 얻을 때마다 인위적인 지연을 추가해서 느린 DB 를 흉내냅니다.
+ * 커넥션을 잡은 상태로 대기하므로 요청 스레드가 DB 응답을 기다리는 상황과 같습니다.
+ * 플랫폼 스레드 / 가상 스레드 요청 처리 비교용이며 운영 환경에서는 사용하지 않습니다.
+ */
+@Profile("slowdb")
+@Configuration
+public class SlowDataSourceConfig {
+
+    // DataSource 빈을 지연 DataSource 로 감싼다. (BeanPostProcessor 는 static 으로 등록)
+    @Bean
+    public static BeanPostProcessor slowDataSourcePostProcessor(Environment environment) {
+        Duration latency = environment.getProperty("slow-db.latency", Duration.class, Duration.ofMillis(20));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SlowDataSource)) {
+                    return new SlowDataSource(dataSource, latency);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class SlowDataSource extends DelegatingDataSource {
+
+        private final long latencyMillis;
+
+        SlowDataSource(DataSource target, Duration latency) {
+            super(target);
+            this.latencyMillis = latency.toMillis();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                connection.close();
+                throw new SQLException("DB 지연 대기 중 인터럽트", e);
+            }
+            return connection;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import com.tenco.blog_jpa_step4.commom.utils.Define;
+import com.tenco.blog_jpa_step4.commom.utils.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * SqlStatementFilter 는 HTTP 요청마다 실행된 SQL 문 수를 측정하는 필터입니다.
+ * - 엔드포인트별 SQL 실행 횟수 히스토그램 메트릭 (blog.http.sql.statements)
+ * - 개발 모드(sql-monitor.dev-mode)에서는 같은 SELECT 가 반복되면 N+1 의심 경고 로그 출력
+ * 측정한 횟수는 요청 속성(Define.SQL_COUNT)에 저장해서 다른 필터가 사용할 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean devMode;
+    private final int repeatThreshold;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry,
+                              @Value("${sql-monitor.dev-mode:false}") boolean devMode,
+                              @Value("${sql-monitor.repeat-threshold:3}") int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.devMode = devMode;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.Stats stats = SqlStatementCounter.stop();
+            request.setAttribute(Define.SQL_COUNT, stats.getCount());
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("blog.http.sql.statements")
+                    .description("HTTP 요청 하나에서 실행된 SQL 문 수")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(stats.getCount());
+
+            if (devMode) {
+                List<String> repeated = stats.repeatedShapes(repeatThreshold);
+                if (!repeated.isEmpty()) {
+                    log.warn("N+1 의심 - {} {} (SQL {}회) 반복된 SELECT: {}",
+                            request.getMethod(), uri, stats.getCount(), repeated);
+                }
+            }
+        }
+    }
+}
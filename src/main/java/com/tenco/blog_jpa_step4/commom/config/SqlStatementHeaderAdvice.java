@@ -0,0 +1,47 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import com.tenco.blog_jpa_step4.commom.utils.SqlStatementCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 개발 모드(sql-monitor.dev-mode)에서 응답 헤더에 SQL 실행 횟수를 추가합니다.
+ * 응답 본문을 쓰기 직전에 실행되므로 헤더를 추가할 수 있다. (필터에서는 이미 응답이 전송된 후일 수 있음)
+ * - X-SQL-Count: 실행된 SQL 문 수
+ * - X-SQL-Repeated: N+1 의심 (같은 SELECT 가 반복된 모양의 수)
+ */
+@RestControllerAdvice
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final boolean devMode;
+    private final int repeatThreshold;
+
+    public SqlStatementHeaderAdvice(@Value("${sql-monitor.dev-mode:false}") boolean devMode,
+                                    @Value("${sql-monitor.repeat-threshold:3}") int repeatThreshold) {
+        this.devMode = devMode;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return devMode;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementCounter.Stats stats = SqlStatementCounter.current();
+        if (stats != null) {
+            response.getHeaders().set("X-SQL-Count", String.valueOf(stats.getCount()));
+            response.getHeaders().set("X-SQL-Repeated", String.valueOf(stats.repeatedShapes(repeatThreshold).size()));
+        }
+        return body;
+    }
+}
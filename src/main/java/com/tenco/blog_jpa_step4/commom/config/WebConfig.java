@@ -1,11 +1,17 @@
 package com.tenco.blog_jpa_step4.commom.config;
 
+import com.tenco.blog_jpa_step4.commom.utils.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class WebConfig implements WebMvcConfigurer {
 
     @Autowired
@@ -14,6 +20,16 @@ public class WebConfig implements WebMvcConfigurer {
     @Autowired
     private AdminInterceptor adminInterceptor;
 
+    @Autowired
+    private RateLimitProperties rateLimitProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 복제본(replica) DataSource 를 사용하는 경우에만 등록됨 (ReplicaDataSourceConfig)
+    @Autowired
+    private ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         // 로그인 인터셉터 적용
@@ -26,8 +42,25 @@ public class WebConfig implements WebMvcConfigurer {
         // \d+는 숫자 하나 이상을 의미하는 정규표현식 패턴
         // 백슬래시(\)는 이스케이프 문자
 
+        // 요청 수 제한 인터셉터 적용 (규칙마다 등록, 로그인 인터셉터 다음에 실행되어 sessionUser 사용)
+        if (rateLimitProperties.isEnabled()) {
+            for (RateLimitProperties.Rule rule : rateLimitProperties.getRules()) {
+                RateLimiter rateLimiter = new RateLimiter(rule.getLimit(), rule.getPeriod(), rule.getBurstOrLimit(),
+                        rateLimitProperties.getIdleTimeout(), rateLimitProperties.getMaxKeys());
+                Counter rejected = Counter.builder("blog.ratelimit.rejected")
+                        .description("요청 수 제한으로 거절된 요청 수 (429)")
+                        .tag("pattern", rule.getPattern())
+                        .register(meterRegistry);
+                registry.addInterceptor(new RateLimitInterceptor(rateLimiter, rejected))
+                        .addPathPatterns(rule.getPattern());
+            }
+        }
+
         // 관리자 인터셉터 적용
         registry.addInterceptor(adminInterceptor)
-                .addPathPatterns("/admin/**"); // /admin/** 경로에만 관리자 인터셉터 적용}
+                .addPathPatterns("/admin/**", "/api/admin/**"); // 관리자 경로에만 관리자 인터셉터 적용 (로그인 인터셉터 다음에 실행)
+
+        // 읽기/쓰기 DataSource 선택 (로그인 인터셉터 다음에 실행되어 sessionUser 사용)
+        readYourWritesInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor).addPathPatterns("/**"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.tenco.blog_jpa_step4.commom.errors;
+
+public class Exception429 extends  RuntimeException {
+
+    private final long retryAfterSeconds; // Retry-After 헤더 값 (초)
+
+    public Exception429(String msg, long retryAfterSeconds) {
+        super(msg);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.tenco.blog_jpa_step4.commom.errors;
+
+public class Exception503 extends  RuntimeException {
+
+    public Exception503(String msg) {
+        super(msg);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.tenco.blog_jpa_step4.commom.utils;
+
+import com.tenco.blog_jpa_step4.commom.errors.Exception400;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * CursorPage 클래스는 키셋(커서) 기반 페이지 응답을 담는 클래스입니다.
+ * 클라이언트는 nextCursor 값을 다음 요청의 after 파라미터로 그대로 전달합니다.
+ * 커서는 내부 ID를 Base64 로 감싼 불투명(opaque) 문자열입니다.
+ */
+@Getter
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> items; // 현재 페이지 데이터
+    private final String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+    private final boolean hasNext; // 다음 페이지 존재 여부
+
+    private CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    /**
+     * size + 1 건을 조회한 결과로 페이지를 만듭니다.
+     * 한 건을 더 조회해서 다음 페이지가 있는지 추가 COUNT 쿼리 없이 판단합니다.
+     * @param fetched size + 1 건까지 조회한 결과
+     * @param size 페이지 크기
+     * @param idExtractor 커서로 사용할 ID 추출 함수
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, ToIntFunction<T> idExtractor) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        String nextCursor = encode(idExtractor.applyAsInt(items.get(size - 1)));
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    /**
+     * 요청된 페이지 크기를 1 ~ MAX_SIZE 범위로 보정합니다.
+     */
+    public static int clampSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public static String encode(int id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 ID로 복원합니다.
+     * @param cursor 클라이언트가 전달한 커서 (없으면 첫 페이지)
+     * @param firstPageValue 첫 페이지 요청일 때 사용할 값
+     * @throws Exception400 잘못된 커서인 경우 발생
+     */
+    public static int decode(String cursor, int firstPageValue) {
+        if (cursor == null || cursor.isBlank()) {
+            return firstPageValue;
+        }
+        try {
+            return Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new Exception400("잘못된 커서 값입니다");
+        }
+    }
+}
@@ -11,4 +11,5 @@ public class Define {
     // 주의! 공백 반드시 포함
     public static String BEARER = "Bearer ";
     public static String SESSION_USER = "sessionUser";
+    public static String SQL_COUNT = "sqlCount"; // 요청에서 실행된 SQL 문 수 (요청 속성 키)
 }
@@ -1,11 +1,23 @@
 package com.tenco.blog_jpa_step4.commom.utils;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.tenco.blog_jpa_step4.commom.errors.Exception401;
 import com.tenco.blog_jpa_step4.user.User;
+import jakarta.servlet.http.HttpServletRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JwtUtil 클래스는 JWT 토큰의 생성 및 검증을 위한 유틸리티 클래스입니다.
@@ -13,6 +25,46 @@ import java.util.Date;
  */
 public class JwtUtil {
 
+    // 알고리즘과 검증기는 스레드 안전하므로 한 번만 생성해서 재사용
+    private static final Algorithm ALGORITHM = Algorithm.HMAC512("tencoding");
+    private static final JWTVerifier VERIFIER = JWT.require(ALGORITHM).build();
+
+    // 검증이 끝난 토큰 캐시 (키: 토큰의 SHA-256 다이제스트, 값: 사용자 정보)
+    // 각 항목은 토큰의 만료 시간에 맞춰 제거되므로 만료된 토큰이 캐시에서 통과되는 일은 없다.
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+    private static final Cache<String, VerifiedToken> VERIFIED_TOKENS = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                    long remainingMillis = token.expiresAt() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    // 검증된 토큰에서 꺼낸 사용자 정보와 만료 시간
+    private record VerifiedToken(int id, String username, String role, long expiresAt) {
+    }
+
     /**
      * 주어진 사용자 정보(User)로 JWT 토큰을 생성합니다.
      * @param user 토큰에 포함할 사용자 정보
@@ -27,31 +79,85 @@ public class JwtUtil {
                 // 페이로드 포함된 데이터 조각 - 클레임(사용자, id 와 사용자 이름을 포함)
                 .withClaim("id", user.getId())
                 .withClaim("username", user.getUsername())
+                .withClaim("role", user.getRole()) // 관리자 API 권한 확인용
                // 서명 HMAC512 알고리즘을 사용
-                .sign(Algorithm.HMAC512("tencoding"));
+                .sign(ALGORITHM);
     }
 
     /**
      * 전달된 JWT 토큰을 검증하고, 그 안에 포함된 사용자 정보를 반환합니다.
+     * 한 번 검증된 토큰은 만료 시간까지 캐시되어 같은 토큰의 재요청은 서명 검증과 디코딩을 건너뜁니다.
      * @param jwt 검증할 JWT 토큰
      * @return SessionUser 객체 (JWT에서 파싱한 사용자 정보)
      */
     // Jwt 검증하기
     public static User verify(String jwt) {
-        // JWT 디코딩
-        DecodedJWT decodedJWT
-                // 동일한 비밀키로 서명 검증
-                = JWT.require(Algorithm.HMAC512("tencoding"))
-                .build().verify(jwt);
+        String key = digest(jwt);
+        VerifiedToken token = VERIFIED_TOKENS.getIfPresent(key);
 
-        // 검증된 JWT 에서 사용자 ID와 이름을 추출
-        int id = decodedJWT.getClaim("id").asInt();
-        String username = decodedJWT.getClaim("username").asString();
+        if (token == null || token.expiresAt() <= System.currentTimeMillis()) {
+            // JWT 디코딩 - 동일한 비밀키로 서명 검증 (실패 시 예외 발생, 캐시에 저장하지 않음)
+            DecodedJWT decodedJWT = VERIFIER.verify(jwt);
 
+            // 검증된 JWT 에서 사용자 ID, 이름, 역할을 추출
+            int id = decodedJWT.getClaim("id").asInt();
+            String username = decodedJWT.getClaim("username").asString();
+            String role = decodedJWT.getClaim("role").asString();
+            // 만료 시간이 없는 토큰은 캐시에 남지 않도록 0 으로 처리 (매번 검증)
+            long expiresAt = decodedJWT.getExpiresAt() != null ? decodedJWT.getExpiresAt().getTime() : 0L;
+            token = new VerifiedToken(id, username, role, expiresAt);
+            VERIFIED_TOKENS.put(key, token);
+        }
+
+        // User 는 변경 가능한 객체이므로 요청마다 새로 생성해서 반환
         return User
                 .builder()
-                .id(id)
-                .username(username)
+                .id(token.id())
+                .username(token.username())
+                .role(token.role())
                 .build();
     }
+
+    /**
+     * 공개 경로(GET /boards/{id} 등)에서 선택적으로 전달된 Authorization 헤더를 검증합니다.
+     * @param authorizationHeader Authorization 헤더 값 (없으면 null)
+     * @return 헤더가 없거나 Bearer 형식이 아니면 null (비로그인 사용자)
+     * @throws Exception401 토큰이 만료되었거나 유효하지 않은 경우
+     */
+    public static User verifyOptional(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith(Define.BEARER)) {
+            return null;
+        }
+        try {
+            return verify(authorizationHeader.replace(Define.BEARER, ""));
+        } catch (TokenExpiredException e) {
+            throw new Exception401("토큰이 만료되었습니다. 다시 로그인해주세요.");
+        } catch (Exception e) {
+            throw new Exception401("유효하지 않은 토큰입니다.");
+        }
+    }
+
+    /**
+     * 요청한 사용자의 ID 를 확인합니다. (접근 로그, 복제본 라우팅처럼 인증을 요구하지 않는 곳에서 사용)
+     * 로그인 인터셉터가 설정한 사용자(/api/**)를, 없으면 (GET /boards 등 공개 경로) Authorization 헤더의 JWT 에서 확인합니다.
+     * @param request HTTP 요청 객체
+     * @return 사용자 ID (비로그인이거나 토큰이 잘못된 경우 null - 잘못된 토큰은 컨트롤러에서 401 처리)
+     */
+    public static Integer resolveUserId(HttpServletRequest request) {
+        if (request.getAttribute(Define.SESSION_USER) instanceof User sessionUser) {
+            return sessionUser.getId();
+        }
+        try {
+            User user = verifyOptional(request.getHeader(Define.AUTHORIZATION));
+            return user != null ? user.getId() : null;
+        } catch (Exception401 e) {
+            return null;
+        }
+    }
+
+    // 토큰 원문 대신 다이제스트를 캐시 키로 사용 (메모리 절약, 토큰 원문을 보관하지 않음)
+    private static String digest(String jwt) {
+        byte[] hash = SHA_256.get().digest(jwt.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
 }
@@ -0,0 +1,78 @@
+package com.tenco.blog_jpa_step4.commom.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * MpscRingBuffer 는 여러 스레드가 넣고(producer) 한 스레드만 꺼내는(consumer) 크기 고정 링 버퍼입니다.
+ * - 락 없이 CAS 로 자리를 예약하므로 넣는 쪽이 대기하지 않습니다.
+ * - 가득 차면 기다리지 않고 false 를 반환합니다. (버릴지 여부는 호출하는 쪽에서 결정)
+ * - poll 은 반드시 한 스레드에서만 호출해야 합니다.
+ */
+public class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong(); // 다음에 넣을 위치 (producer 들이 CAS 로 예약)
+    private final AtomicLong head = new AtomicLong(); // 다음에 꺼낼 위치 (consumer 만 변경)
+
+    /**
+     * @param capacity 최대 보관 개수 (2의 거듭제곱으로 올림)
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity 는 1 ~ 2^30 이어야 합니다");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(Math.max(1, size));
+        this.mask = slots.length() - 1;
+    }
+
+    /**
+     * 항목을 넣습니다.
+     * @return 가득 차서 넣지 못했으면 false
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+        while (true) {
+            long currentTail = tail.get();
+            if (currentTail - head.get() >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                // 자리를 예약한 스레드만 이 칸에 쓴다. consumer 는 null 이 아닐 때만 꺼낸다.
+                slots.lazySet((int) currentTail & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 항목을 꺼냅니다. (consumer 스레드 전용)
+     * @return 비어 있거나 예약만 되고 아직 쓰이지 않은 경우 null
+     */
+    public E poll() {
+        long currentHead = head.get();
+        int index = (int) currentHead & mask;
+        E element = slots.get(index);
+        if (element == null) {
+            return null;
+        }
+        slots.lazySet(index, null); // 칸을 비운 후에 head 를 옮겨야 producer 가 덮어쓰지 않음
+        head.lazySet(currentHead + 1);
+        return element;
+    }
+
+    /**
+     * 현재 보관 중인 개수 (근사값)
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,72 @@
+package com.tenco.blog_jpa_step4.commom.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * RateLimiter 는 키(사용자 ID, 클라이언트 IP 등)별 요청 수를 제한하는 토큰 버킷입니다.
+ * GCRA(Generic Cell Rate Algorithm) 방식으로 구현해서 버킷 하나의 상태가 "다음 요청 예정 시각" long 값 하나입니다.
+ * - 락 없이 CAS 로만 갱신하므로 같은 키에 동시 요청이 몰려도 스레드가 대기하지 않습니다.
+ * - 버킷 맵은 Caffeine 캐시(내부적으로 분할된 해시 테이블)이고, idle-timeout 동안 요청이 없는 키는 자동으로 제거됩니다.
+ *   (그 시점에는 버킷이 이미 가득 찬 상태이므로 제거해도 제한 결과는 달라지지 않음)
+ */
+public class RateLimiter {
+
+    private final Cache<Object, AtomicLong> buckets;
+    private final LongSupplier clock; // 나노초 단위 시각
+    private final long origin; // 시각이 음수가 되지 않도록 하는 기준점
+    private final long emissionInterval; // 토큰 1개가 채워지는 시간 (period / limit)
+    private final long tolerance; // 한 번에 허용하는 요청 수(burst) 만큼의 시간
+
+    /**
+     * @param limit period 동안 허용하는 요청 수 (평균 속도)
+     * @param period 기준 시간
+     * @param burst 한 번에 몰려서 허용하는 최대 요청 수 (버킷 크기)
+     * @param idleTimeout 요청이 없는 키를 제거하기까지의 시간 (버킷이 다시 가득 차는 시간보다 짧으면 그 시간으로 늘림)
+     * @param maxKeys 보관하는 최대 키 수 (IP 를 바꿔가며 요청하는 경우 메모리 보호)
+     */
+    public RateLimiter(int limit, Duration period, int burst, Duration idleTimeout, long maxKeys) {
+        this(limit, period, burst, idleTimeout, maxKeys, System::nanoTime);
+    }
+
+    RateLimiter(int limit, Duration period, int burst, Duration idleTimeout, long maxKeys, LongSupplier clock) {
+        if (limit <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("limit, burst 는 1 이상이어야 합니다");
+        }
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+        this.emissionInterval = Math.max(1, period.toNanos() / limit);
+        this.tolerance = emissionInterval * burst;
+        Duration refill = Duration.ofNanos(tolerance);
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout.compareTo(refill) < 0 ? refill : idleTimeout)
+                .maximumSize(maxKeys)
+                .build();
+    }
+
+    /**
+     * 요청 1건을 허용할지 확인하고, 허용하면 토큰을 1개 사용합니다.
+     * @param key 제한 단위 키 (equals/hashCode 기준으로 구분)
+     * @return 0 이면 허용, 0 보다 크면 다음 요청이 허용되기까지 기다려야 하는 시간 (나노초)
+     */
+    public long tryAcquire(Object key) {
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong());
+        long now = clock.getAsLong() - origin;
+        while (true) {
+            long current = bucket.get();
+            long next = Math.max(current, now) + emissionInterval;
+            long allowAt = next - tolerance;
+            if (allowAt > now) {
+                return allowAt - now;
+            }
+            if (bucket.compareAndSet(current, next)) {
+                return 0;
+            }
+            // 다른 스레드가 먼저 갱신함 - 새 값으로 다시 계산
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.tenco.blog_jpa_step4.commom.utils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * SqlStatementCounter 는 요청(스레드) 단위로 실행된 SQL 문을 세는 클래스입니다.
+ * Hibernate StatementInspector 가 SQL 을 준비할 때마다 record() 를 호출하고,
+ * 요청 필터가 start() / stop() 으로 측정 구간을 정합니다.
+ * 같은 모양(shape)의 SELECT 가 반복되면 N+1 문제로 의심할 수 있습니다.
+ */
+public class SqlStatementCounter {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    // SQL 모양 정규화 - 리터럴 값과 IN (?, ?, ...) 목록의 길이를 제거해서 "같은 SQL, 다른 id" 를 하나로 묶는다.
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'"); // '' 는 이스케이프된 따옴표
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * 요청 하나에서 실행된 SQL 통계
+     */
+    public static class Stats {
+        private int count;
+        private final Map<String, Integer> selectShapes = new HashMap<>();
+
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * threshold 번 이상 반복된 SELECT 모양 목록 (N+1 의심)
+         */
+        public List<String> repeatedShapes(int threshold) {
+            return selectShapes.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .map(entry -> entry.getValue() + "x " + entry.getKey())
+                    .toList();
+        }
+    }
+
+    public static void start() {
+        CURRENT.set(new Stats());
+    }
+
+    /**
+     * 측정을 종료하고 통계를 반환합니다. (측정 중이 아니면 null)
+     */
+    public static Stats stop() {
+        Stats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * 현재 요청의 통계 (측정 중이 아니면 null)
+     */
+    public static Stats current() {
+        return CURRENT.get();
+    }
+
+    public static void record(String sql) {
+        Stats stats = CURRENT.get();
+        if (stats == null) { // 요청 밖(스케줄러 등)에서 실행된 SQL 은 세지 않음
+            return;
+        }
+        stats.count++;
+        String shape = normalize(sql);
+        if (shape.startsWith("select")) {
+            stats.selectShapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase();
+    }
+}
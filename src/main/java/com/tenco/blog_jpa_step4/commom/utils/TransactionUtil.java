@@ -0,0 +1,29 @@
+package com.tenco.blog_jpa_step4.commom.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 관련 유틸리티 클래스입니다.
+ */
+public class TransactionUtil {
+
+    /**
+     * 현재 트랜잭션이 커밋된 후에 작업을 실행합니다.
+     * 트랜잭션 밖에서 호출되면 즉시 실행합니다.
+     * (롤백된 변경 사항이 캐시나 인덱스에 반영되지 않도록 할 때 사용)
+     * @param action 커밋 후 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
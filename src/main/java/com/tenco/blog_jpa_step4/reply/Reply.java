@@ -15,13 +15,15 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "reply_tb")
+// 게시글별 ACTIVE 댓글을 id 순서로 읽기 위한 복합 인덱스 (board_id, status, id)
+@Table(name = "reply_tb", indexes = @Index(name = "idx_reply_board_status_id", columnList = "board_id, status, id"))
 @ToString(exclude = {"user", "board"}) // 연관된 엔티티를 제외하여 순환 참조 방지 및 보안 강화
 public class Reply {
     // 연관된 엔티티를 제외하여 순환 참조 방지 및 보안 강화
     //일반적으로 id는 Long 타입을 사용하는 것이 권장
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reply_seq_generator")
+    @SequenceGenerator(name = "reply_seq_generator", sequenceName = "reply_seq", allocationSize = 50) // JDBC 배치 INSERT 를 위해 시퀀스 사용
     private Integer id;
 
     // not null 지정
@@ -2,19 +2,45 @@ package com.tenco.blog_jpa_step4.reply;
 
 import com.tenco.blog_jpa_step4.board.BoardResponse;
 import com.tenco.blog_jpa_step4.commom.utils.ApiUtil;
+import com.tenco.blog_jpa_step4.commom.utils.CursorPage;
 import com.tenco.blog_jpa_step4.commom.utils.Define;
+import com.tenco.blog_jpa_step4.commom.utils.JwtUtil;
 import com.tenco.blog_jpa_step4.user.User;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RequiredArgsConstructor
+@Timed(value = "blog.controller", histogram = true) // 핸들러 메서드별 실행 시간 측정
 @RestController
 public class ReplyController {
 
     private final ReplyService replyService;
 
+    /**
+     * 댓글 목록 조회 (키셋 페이징)
+     * 요청 주소: **GET http://localhost:8080/boards/{boardId}/replies?after={cursor}&size={size}**
+     *
+     * @param boardId 게시글 ID
+     * @param after   이전 응답의 nextCursor 또는 상세보기의 nextReplyCursor (첫 페이지는 생략)
+     * @param size    페이지 크기 (기본 20, 최대 100)
+     * @param request HTTP 요청 객체
+     * @return 댓글 목록 페이지
+     */
+    @GetMapping("/boards/{boardId}/replies")
+    public ResponseEntity<ApiUtil<CursorPage<ReplyResponse>>> getReplies(@PathVariable(name = "boardId") Integer boardId,
+                                                                         @RequestParam(name = "after", required = false) String after,
+                                                                         @RequestParam(name = "size", required = false) Integer size,
+                                                                         HttpServletRequest request) {
+        // api 경로가 아니기 때문에 JWT 확인 해야 함 (작성자 여부 표시용, 잘못된 토큰은 401)
+        User sessionUser = JwtUtil.verifyOptional(request.getHeader(Define.AUTHORIZATION));
+
+        CursorPage<ReplyResponse> replyPage = replyService.getReplies(boardId, after, size, sessionUser);
+        return ResponseEntity.ok(new ApiUtil<>(replyPage));
+    }
+
     /**
      * 댓글 생성
      *
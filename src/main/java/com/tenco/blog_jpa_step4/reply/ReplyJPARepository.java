@@ -1,17 +1,40 @@
 package com.tenco.blog_jpa_step4.reply;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public interface ReplyJPARepository extends JpaRepository<Reply, Integer> {
 
     // 커스텀 쿼리 (Query 어노테이션 활용 JPQL 쿼리 사용
-    @Query("select r from Reply r where r.board.id = :boardId")
+    // 삭제(DELETED)된 댓글은 SQL 에서 제외
+    @Query("select r from Reply r where r.board.id = :boardId and r.status = 'ACTIVE'")
     List<Reply> findByBoardId(@Param("boardId") Integer boardId);
 
+    // 댓글 키셋(커서) 페이징 - 작성자를 함께 조회 (댓글 수와 관계없이 SQL 1번)
+    // (board_id = :boardId AND status = 'ACTIVE' AND id > :cursor ORDER BY id LIMIT N)
+    // idx_reply_board_status_id 인덱스를 순서대로 읽으므로 삭제된 댓글은 읽지 않는다.
+    @Query("select r from Reply r join fetch r.user " +
+            "where r.board.id = :boardId and r.status = 'ACTIVE' and r.id > :cursor order by r.id asc")
+    List<Reply> findByBoardIdAfter(@Param("boardId") Integer boardId, @Param("cursor") int cursor, Pageable pageable);
+
+    // 게시글의 댓글을 최대 limit 개 삭제 (상태와 관계없이 - 게시글 삭제 시 FK 제약 조건 때문에 필요)
+    // 엔티티를 조회하지 않고 한 문장으로 삭제하며, 호출마다 별도 트랜잭션으로 커밋해서 잠금을 짧게 유지한다.
+    // 네이티브 쿼리가 변경하는 테이블을 지정해서 2차 캐시 전체가 비워지지 않도록 한다.
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reply_tb"))
+    @Query(value = "DELETE FROM reply_tb WHERE board_id = :boardId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByBoardId(@Param("boardId") Integer boardId, @Param("limit") int limit);
+
     // 메서드 네이밍 전략을 활용하여 쿼리 자동 생성
     // List<Reply> findByBoard_Id(Integer boardId);
 }
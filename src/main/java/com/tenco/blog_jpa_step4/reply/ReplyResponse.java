@@ -1,5 +1,6 @@
 package com.tenco.blog_jpa_step4.reply;
 
+import com.tenco.blog_jpa_step4.user.User;
 import lombok.*;
 
 /**
@@ -18,5 +19,12 @@ public class ReplyResponse {
     private String username; // 댓글 작성자 이름
     private Boolean owner; // 댓글 작성자가 현재 사용자와 동일한지 여부
 
-
+    // 댓글 엔티티로 응답 DTO 를 만드는 생성자
+    public ReplyResponse(Reply reply, User sessionUser) {
+        this.id = reply.getId();
+        this.comment = reply.getComment();
+        this.userId = reply.getUser().getId();
+        this.username = reply.getUser().getUsername();
+        this.owner = sessionUser != null && sessionUser.getId().equals(userId);
+    }
 }
@@ -1,21 +1,31 @@
 package com.tenco.blog_jpa_step4.reply;
 
 import com.tenco.blog_jpa_step4.board.Board;
+import com.tenco.blog_jpa_step4.board.BoardDetailCache;
+import com.tenco.blog_jpa_step4.board.BoardEntityCache;
 import com.tenco.blog_jpa_step4.board.BoardJPARepository;
 import com.tenco.blog_jpa_step4.board.BoardResponse;
 import com.tenco.blog_jpa_step4.commom.errors.Exception403;
 import com.tenco.blog_jpa_step4.commom.errors.Exception404;
+import com.tenco.blog_jpa_step4.commom.utils.CursorPage;
 import com.tenco.blog_jpa_step4.user.User;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @RequiredArgsConstructor
+@Timed(value = "blog.service", histogram = true) // 서비스 메서드별 실행 시간 측정
 @Service
 public class ReplyService {
 
     private final BoardJPARepository boardJPARepository;
     private final ReplyJPARepository replyJPARepository;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardEntityCache boardEntityCache;
 
     @Transactional
     public BoardResponse.DetailDTO saveReply(ReplyRequest.SaveDTO reqDTO, User sessionUser) {
@@ -24,8 +34,36 @@ public class ReplyService {
         Reply reply = reqDTO.toEntity(sessionUser, board);
 
         replyJPARepository.save(reply);
-        // 댓글 작성 후, 최신 게시글 상세 정보를 반환
-        return new BoardResponse.DetailDTO(board, sessionUser);
+        boardJPARepository.incrementReplyCount(board.getId());
+        boardEntityCache.evict(board.getId());
+        boardDetailCache.evict(board.getId());
+        // 댓글 작성 후, 최신 게시글 상세 정보를 반환 (댓글은 첫 페이지만 포함)
+        List<Reply> replies = replyJPARepository.findByBoardIdAfter(board.getId(), 0,
+                PageRequest.of(0, BoardResponse.DetailDTO.REPLY_LIMIT + 1));
+        return new BoardResponse.DetailDTO(board, replies).forViewer(sessionUser);
+    }
+
+    /**
+     * 댓글 목록 조회 서비스 (키셋 페이징)
+     * @param boardId 게시글 ID
+     * @param after 이전 페이지에서 받은 커서 (없으면 첫 페이지)
+     * @param size 페이지 크기
+     * @param sessionUser 현재 세션 사용자 정보 (비로그인이면 null)
+     * @return 댓글 목록 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ReplyResponse> getReplies(Integer boardId, String after, Integer size, User sessionUser) {
+        if (!boardJPARepository.existsById(boardId)) {
+            throw new Exception404("게시글을 찾을 수 없습니다");
+        }
+
+        int pageSize = CursorPage.clampSize(size);
+        int cursor = CursorPage.decode(after, 0);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<ReplyResponse> replies = replyJPARepository.findByBoardIdAfter(boardId, cursor, PageRequest.of(0, pageSize + 1))
+                .stream().map(reply -> new ReplyResponse(reply, sessionUser)).toList();
+        return CursorPage.of(replies, pageSize, ReplyResponse::getId);
     }
 
     @Transactional
@@ -42,6 +80,11 @@ public class ReplyService {
         }
 
         replyJPARepository.deleteById(replyId);
+        if ("ACTIVE".equals(reply.getStatus())) { // 댓글 수는 ACTIVE 댓글 기준
+            boardJPARepository.decrementReplyCount(boardId);
+            boardEntityCache.evict(boardId);
+        }
+        boardDetailCache.evict(boardId);
     }
 
 }
@@ -0,0 +1,147 @@
+package com.tenco.blog_jpa_step4.user;
+
+import com.tenco.blog_jpa_step4.commom.errors.Exception503;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.*;
+
+/**
+ * PasswordHasher 는 비밀번호를 PBKDF2(HmacSHA256) 로 해시하고 검증합니다.
+ * 해시 계산은 CPU 를 많이 사용하므로 코어 수만큼의 전용 스레드 풀에서만 실행합니다.
+ * - 대기열(queue-capacity)이 가득 차면 기다리지 않고 바로 503 으로 거절합니다. (로그인 폭주 시 Tomcat 스레드 보호)
+ * - 저장 형식: pbkdf2$반복횟수$salt(Base64)$hash(Base64) - 반복 횟수를 올려도 기존 해시는 그대로 검증됩니다.
+ * - 풀 상태는 executor.* {name=password.hasher} 메트릭으로, 거절 횟수는 password.hasher.rejected 로 수집됩니다.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+    private static final String BUSY_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요";
+
+    private final SecureRandom random = new SecureRandom();
+    private final byte[] dummySalt = new byte[SALT_BYTES]; // 비교할 해시가 없을 때 사용 (응답 시간을 맞추기 위함)
+    private final int iterations;
+    private final Duration timeout;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor; // 메트릭 수집용으로 감싼 pool
+    private final Counter rejected;
+
+    public PasswordHasher(@Value("${password.hash.threads:0}") int threads, // 0 이면 CPU 코어 수
+                          @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+                          @Value("${password.hash.iterations:310000}") int iterations,
+                          @Value("${password.hash.timeout:3s}") Duration timeout,
+                          MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        random.nextBytes(dummySalt);
+        this.iterations = iterations;
+        this.timeout = timeout;
+        this.pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hasher-"),
+                new ThreadPoolExecutor.AbortPolicy()); // 가득 차면 RejectedExecutionException
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "password.hasher");
+        this.rejected = Counter.builder("password.hasher.rejected")
+                .description("해시 스레드 풀이 가득 차서 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호를 해시합니다.
+     * @param rawPassword 평문 비밀번호
+     * @return 저장용 해시 문자열
+     * @throws Exception503 해시 스레드 풀이 가득 찬 경우 발생
+     */
+    public String hash(String rawPassword) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] key = compute(rawPassword, salt, iterations);
+        Base64.Encoder encoder = Base64.getEncoder();
+        return PREFIX + "$" + iterations + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(key);
+    }
+
+    /**
+     * 평문 비밀번호가 저장된 해시와 일치하는지 확인합니다.
+     * @param rawPassword 평문 비밀번호
+     * 비교할 해시가 없거나(없는 사용자) 형식이 다르면 더미 salt 로 같은 비용의 해시를 계산한 후 false 를 반환합니다.
+     * (응답 시간 차이로 유저네임 존재 여부를 알 수 없도록)
+     * @param encoded 저장된 해시 문자열 (없으면 null)
+     * @throws Exception503 해시 스레드 풀이 가득 찬 경우 발생
+     */
+    public boolean matches(String rawPassword, String encoded) {
+        String[] parts = encoded == null ? new String[0] : encoded.split("\\$");
+        if (parts.length != 4 || !PREFIX.equals(parts[0])) {
+            return mismatch(rawPassword);
+        }
+        int storedIterations;
+        byte[] salt;
+        byte[] expected;
+        try {
+            storedIterations = Integer.parseInt(parts[1]);
+            salt = Base64.getDecoder().decode(parts[2]);
+            expected = Base64.getDecoder().decode(parts[3]);
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            return mismatch(rawPassword);
+        }
+        byte[] actual = compute(rawPassword, salt, storedIterations);
+        return MessageDigest.isEqual(expected, actual); // 비교 시간이 일치 여부에 따라 달라지지 않도록
+    }
+
+    // 실제 비교와 같은 비용(현재 반복 횟수)으로 계산만 하고 불일치를 반환
+    private boolean mismatch(String rawPassword) {
+        compute(rawPassword == null ? "" : rawPassword, dummySalt, iterations);
+        return false;
+    }
+
+    // 해시 스레드 풀에서 계산하고 결과를 기다린다. (대기열이 가득 찼거나 시간 초과면 503)
+    private byte[] compute(String rawPassword, byte[] salt, int iterations) {
+        Future<byte[]> future;
+        try {
+            future = executor.submit(() -> pbkdf2(rawPassword, salt, iterations));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new Exception503(BUSY_MESSAGE);
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new Exception503(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new Exception503(BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해시 계산 실패", e.getCause());
+        }
+    }
+
+    private static byte[] pbkdf2(String rawPassword, byte[] salt, int iterations) throws GeneralSecurityException {
+        PBEKeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt, iterations, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
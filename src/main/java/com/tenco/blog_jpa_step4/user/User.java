@@ -2,6 +2,8 @@ package com.tenco.blog_jpa_step4.user;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.sql.Timestamp;
@@ -10,6 +12,9 @@ import java.sql.Timestamp;
 @AllArgsConstructor
 @Table(name = "user_tb")
 @Entity
+// 2차 캐시 (user 영역) - 거의 수정되지 않으므로 NONSTRICT_READ_WRITE (수정 시 커밋 후 무효화)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "user")
 @Builder
 // @Data // 가능한 지양하자 - 권장 사항
 @Getter
@@ -17,7 +22,8 @@ import java.sql.Timestamp;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq_generator")
+    @SequenceGenerator(name = "user_seq_generator", sequenceName = "user_seq", allocationSize = 50) // JDBC 배치 INSERT 를 위해 시퀀스 사용
     private Integer id; // 사용자 ID
 
     @Column(nullable = false, unique = true)
@@ -4,6 +4,7 @@ import com.tenco.blog_jpa_step4.commom.errors.Exception403;
 import com.tenco.blog_jpa_step4.commom.errors.Exception404;
 import com.tenco.blog_jpa_step4.commom.utils.ApiUtil;
 import com.tenco.blog_jpa_step4.commom.utils.Define;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
  * UserController 사용자(User)와 관련된 HTTP 요청을 처리하는 컨트롤러 계층입니다.
  */
 @Slf4j
+@Timed(value = "blog.controller", histogram = true) // 핸들러 메서드별 실행 시간 측정
 @RestController
 @RequiredArgsConstructor
 public class UserController {
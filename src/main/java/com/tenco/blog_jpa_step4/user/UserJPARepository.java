@@ -9,22 +9,6 @@ import java.util.Optional;
 // Entity 클래스와 기본 키 타입을 지정한다.
 public interface UserJPARepository extends JpaRepository<User, Integer> {
 
-    /**
-     * 순서 2
-     * 메서드 이름 기반 쿼리(Method Name Query):
-     * - findByUsernameAndPassword
-     * - JPQL 자동 생성:
-     *   SELECT u FROM User u WHERE u.username = ?1 AND u.password = ?2
-     *
-     * @param username 사용자 이름
-     * @param password 사용자 비밀번호
-     * @return Optional<User> - 조건에 맞는 사용자가 있으면 Optional에 담아 반환, 없으면 Optional.empty()
-     */
-    Optional<User> findByUsernameAndPassword(
-            @Param("username") String username,
-            @Param("password") String password
-    );
-
     /**
      * 순서 1
      * 사용자 이름과 비밀번호를 기반으로 사용자를 조회하는 메서드입니다.
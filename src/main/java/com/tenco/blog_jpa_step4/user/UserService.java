@@ -4,17 +4,21 @@ import com.tenco.blog_jpa_step4.commom.errors.Exception400;
 import com.tenco.blog_jpa_step4.commom.errors.Exception401;
 import com.tenco.blog_jpa_step4.commom.errors.Exception404;
 import com.tenco.blog_jpa_step4.commom.utils.JwtUtil;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @RequiredArgsConstructor
+@Timed(value = "blog.service", histogram = true) // 서비스 메서드별 실행 시간 측정
 @Service // 서비스 계층으로 등록 및 IoC
 public class UserService {
 
     private final UserJPARepository userJPARepository;
+    private final PasswordHasher passwordHasher;
 
     /**
      * 회원 정보 조회 서비스
@@ -23,6 +27,7 @@ public class UserService {
      * @return 조회된 사용자 객체의 DTO
      * @throws Exception404 사용자를 찾을 수 없는 경우 발생
      */
+    @Transactional(readOnly = true) // 복제본(replica)에서 조회
     public UserResponse.DTO findUserById(int id){
         User user = userJPARepository.findById(id)
                 .orElseThrow(() -> new Exception404("회원정보를 찾을 수 없습니다"));
@@ -35,8 +40,10 @@ public class UserService {
      * @param reqDTO 회원가입 요청 DTO
      * @return 회원가입 완료된 사용자 정보의 DTO
      * @throws Exception400 중복된 유저네임인 경우 발생
+     * @throws Exception503 비밀번호 해시 요청이 많은 경우 발생
      */
-    @Transactional // 트랜잭션 관리
+    // 트랜잭션을 걸지 않음 - 해시 계산 중에 DB 커넥션을 잡고 있지 않도록 조회/저장은 각각의 트랜잭션에서 실행
+    // (동시에 같은 유저네임으로 가입하면 username 유니크 제약으로 저장이 실패 -> 400)
     public UserResponse.DTO signUp(UserRequest.JoinDTO reqDTO) {
         // 1. 유저네임 중복검사 (DB 연결이 필요한 것은 Controller 에서 작성하지 말자)
         Optional<User> userOP = userJPARepository.findByUsername(reqDTO.getUsername());
@@ -44,8 +51,15 @@ public class UserService {
         if (userOP.isPresent()) {
             throw new Exception400("중복된 유저네임입니다");
         }
-        // 2. 회원가입
-        User savedUser = userJPARepository.save(reqDTO.toEntity());
+        // 2. 회원가입 (비밀번호는 해시해서 저장)
+        User user = reqDTO.toEntity();
+        user.setPassword(passwordHasher.hash(reqDTO.getPassword()));
+        User savedUser;
+        try {
+            savedUser = userJPARepository.saveAndFlush(user); // 제약 위반이 이 호출 안에서 발생하도록 flush
+        } catch (DataIntegrityViolationException e) { // 중복 검사 후 저장 전에 다른 요청이 먼저 가입한 경우
+            throw new Exception400("중복된 유저네임입니다");
+        }
         return new UserResponse.DTO(savedUser);
     }
 
@@ -53,10 +67,15 @@ public class UserService {
      * 로그인 서비스
      *
      * @throws Exception401 인증 실패 시 발생
+     * @throws Exception503 비밀번호 해시 요청이 많은 경우 발생
      */
     // 리턴 타입 변경
+    // 트랜잭션을 걸지 않음 - 조회는 리포지토리의 읽기 전용 트랜잭션에서 끝내고, 해시 비교는 커넥션 없이 실행
     public String signIn(UserRequest.LoginDTO reqDTO) {
-        User user = userJPARepository.findByUsernameAndPassword(reqDTO.getUsername(), reqDTO.getPassword())
+        Optional<User> userOP = userJPARepository.findByUsername(reqDTO.getUsername());
+        // 없는 사용자도 더미 해시 계산을 거치게 해서 비밀번호가 틀린 경우와 응답 시간이 같도록 한다.
+        boolean matched = passwordHasher.matches(reqDTO.getPassword(), userOP.map(User::getPassword).orElse(null));
+        User user = userOP.filter(found -> matched)
                 .orElseThrow(() -> new Exception401("인증되지 않았습니다"));
 
 
@@ -72,16 +91,21 @@ public class UserService {
      * @param reqDTO 수정된 사용자 정보 DTO
      * @return 수정된 사용자 객체의 DTO
      * @throws Exception404 사용자를 찾을 수 없는 경우 발생
+     * @throws Exception503 비밀번호 해시 요청이 많은 경우 발생
      */
-    @Transactional // 트랜잭션 관리
+    // 트랜잭션을 걸지 않음 - 비밀번호 해시를 먼저 계산하고, 조회/저장은 각각의 트랜잭션에서 실행 (signUp 과 같은 이유)
     public UserResponse.DTO updateUser(int id, UserRequest.UpdateDTO reqDTO,  User sessionUser) {
-        // 1. 사용자 조회 및 예외 처리
+        // 1. 비밀번호를 보낸 경우에만 해시 (DB 커넥션 없이 계산)
+        String passwordHash = reqDTO.getPassword() != null ? passwordHasher.hash(reqDTO.getPassword()) : null;
+        // 2. 사용자 조회 및 예외 처리
         User user = userJPARepository.findById(sessionUser.getId())
                 .orElseThrow(() -> new Exception404("회원정보를 찾을 수 없습니다"));
-        // 2. 사용자 정보 수정
-        user.setPassword(reqDTO.getPassword());
+        // 3. 사용자 정보 수정 - 트랜잭션 밖에서 조회한 엔티티이므로 save(merge) 로 반영
+        if (passwordHash != null) {
+            user.setPassword(passwordHash);
+        }
         user.setEmail(reqDTO.getEmail());
-        // 더티 체킹을 통해 변경 사항이 자동으로 반영됩니다.
+        user = userJPARepository.save(user);
 
         return new UserResponse.DTO(user);
     }
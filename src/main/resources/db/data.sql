@@ -1,17 +1,25 @@
--- 사용자 데이터 삽입
-INSERT INTO user_tb(username, password, email, role, created_at) VALUES('길동', '1234', 'a@nate.com', 'USER', NOW());
-INSERT INTO user_tb(username, password, email, role, created_at) VALUES('둘리', '1234', 'b@nate.com', 'USER', NOW());
-INSERT INTO user_tb(username, password, email, role, created_at) VALUES('마이콜', '1234', 'c@nate.com', 'ADMIN', NOW());
+-- 사용자 데이터 삽입 (비밀번호는 모두 1234, PasswordHasher 의 PBKDF2 해시)
+INSERT INTO user_tb(id, username, password, email, role, created_at) VALUES(1, '길동', 'pbkdf2$310000$HTsgPp9MCsH3j1qPI45UAA==$pI/UTQoSjqIXsmVB+If9XqSJx63BsXZ2iugLvPS5suQ=', 'a@nate.com', 'USER', NOW());
+INSERT INTO user_tb(id, username, password, email, role, created_at) VALUES(2, '둘리', 'pbkdf2$310000$SJjQai/ZrxCOE6KGsKfLPA==$JTXfGX1ein6hHS6lrHiMU3buzgdKlj3mnWbg062iZjM=', 'b@nate.com', 'USER', NOW());
+INSERT INTO user_tb(id, username, password, email, role, created_at) VALUES(3, '마이콜', 'pbkdf2$310000$Yxo+Jy1Z+W0TUnNbkHNEJQ==$US/Lkt6IbDFiZl9NVYbuN1oJi/IuisDbkE1/2OX/VT4=', 'c@nate.com', 'ADMIN', NOW());
 
 -- 게시글 데이터 삽입
-INSERT INTO board_tb(title, content, user_id, created_at) VALUES('제목1', '내용1', 1, NOW());
-INSERT INTO board_tb(title, content, user_id, created_at) VALUES('제목2', '내용2', 1, NOW());
-INSERT INTO board_tb(title, content, user_id, created_at) VALUES('제목3', '내용3', 2, NOW());
-INSERT INTO board_tb(title, content, user_id, created_at) VALUES('제목4', '내용4', 3, NOW());
+INSERT INTO board_tb(id, title, content, user_id, created_at) VALUES(1, '제목1', '내용1', 1, NOW());
+INSERT INTO board_tb(id, title, content, user_id, created_at) VALUES(2, '제목2', '내용2', 1, NOW());
+INSERT INTO board_tb(id, title, content, user_id, created_at) VALUES(3, '제목3', '내용3', 2, NOW());
+INSERT INTO board_tb(id, title, content, user_id, created_at) VALUES(4, '제목4', '내용4', 3, NOW());
 
 -- 댓글 데이터 삽입
-INSERT INTO reply_tb(comment, board_id, user_id, created_at, status) VALUES('댓글1', 4, 1, NOW(), 'DELETED');
-INSERT INTO reply_tb(comment, board_id, user_id, created_at, status) VALUES('댓글1', 4, 1, NOW(), 'ACTIVE');
-INSERT INTO reply_tb(comment, board_id, user_id, created_at, status) VALUES('댓글2', 4, 1, NOW(), 'DELETED');
-INSERT INTO reply_tb(comment, board_id, user_id, created_at, status) VALUES('댓글3', 4, 2, NOW(), 'ACTIVE');
-INSERT INTO reply_tb(comment, board_id, user_id, created_at, status) VALUES('댓글4', 3, 2, NOW(), 'ACTIVE');
\ No newline at end of file
+INSERT INTO reply_tb(id, comment, board_id, user_id, created_at, status) VALUES(1, '댓글1', 4, 1, NOW(), 'DELETED');
+INSERT INTO reply_tb(id, comment, board_id, user_id, created_at, status) VALUES(2, '댓글1', 4, 1, NOW(), 'ACTIVE');
+INSERT INTO reply_tb(id, comment, board_id, user_id, created_at, status) VALUES(3, '댓글2', 4, 1, NOW(), 'DELETED');
+INSERT INTO reply_tb(id, comment, board_id, user_id, created_at, status) VALUES(4, '댓글3', 4, 2, NOW(), 'ACTIVE');
+INSERT INTO reply_tb(id, comment, board_id, user_id, created_at, status) VALUES(5, '댓글4', 3, 2, NOW(), 'ACTIVE');
+
+-- 게시글 댓글 수(reply_count) 초기화
+UPDATE board_tb b SET reply_count = (SELECT COUNT(*) FROM reply_tb r WHERE r.board_id = b.id AND r.status = 'ACTIVE');
+
+-- 시퀀스 재시작 - 위에서 직접 지정한 ID 와 겹치지 않도록 (pooled 방식은 시퀀스 값 - 49 부터 사용하므로 100 → 51 부터 할당)
+ALTER SEQUENCE user_seq RESTART WITH 100;
+ALTER SEQUENCE board_seq RESTART WITH 100;
+ALTER SEQUENCE reply_seq RESTART WITH 100;
\ No newline at end of file
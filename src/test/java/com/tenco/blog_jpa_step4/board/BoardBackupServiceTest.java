@@ -0,0 +1,198 @@
+package com.tenco.blog_jpa_step4.board;
+
+import com.tenco.blog_jpa_step4.commom.errors.Exception400;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BoardBackupServiceTest 는 NDJSON 내보내기 / 가져오기 결과를 검증하는 테스트입니다.
+ * 가져오기는 빈 데이터베이스에만 가능하고 배치마다 커밋되므로, 테스트 전에 현재 데이터를 내보내 두고
+ * 테스트가 데이터베이스를 비웠다면 끝난 후 다시 가져옵니다. 게시글 버전/수정 시각과 시퀀스 값도 원래대로 되돌립니다.
+ */
+@SpringBootTest
+public class BoardBackupServiceTest {
+
+    private static final String[] TABLES = {"user_tb", "board_tb", "reply_tb"};
+    private static final String[] SEQUENCES = {"USER_SEQ", "BOARD_SEQ", "REPLY_SEQ"};
+    private static final int EXTRA_REPLY_ID = 1_000_000; // 시퀀스와 겹치지 않는 테스트용 댓글 ID 시작값
+
+    @Autowired
+    private BoardBackupService boardBackupService;
+
+    @Autowired
+    private BoardDetailCache boardDetailCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private byte[] backup;
+    private boolean emptied;
+    private List<Map<String, Object>> boardSnapshot;
+    private final List<Long> sequenceSnapshot = new ArrayList<>();
+
+    @BeforeEach
+    public void snapshot() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        boardBackupService.exportTo(out);
+        backup = out.toByteArray();
+        emptied = false;
+        boardSnapshot = jdbcTemplate.queryForList("SELECT id, title, version, updated_at FROM board_tb");
+        sequenceSnapshot.clear();
+        for (String sequence : SEQUENCES) {
+            sequenceSnapshot.add(sequenceValue(sequence));
+        }
+    }
+
+    @AfterEach
+    public void restore() throws Exception {
+        jdbcTemplate.update("DELETE FROM reply_tb WHERE id >= ?", EXTRA_REPLY_ID);
+        if (emptied) {
+            emptyDatabase(); // 중간에 실패한 가져오기가 남긴 행 제거
+            boardBackupService.importFrom(new ByteArrayInputStream(backup));
+        }
+        for (Map<String, Object> board : boardSnapshot) {
+            jdbcTemplate.update("UPDATE board_tb SET title = ?, version = ?, updated_at = ? WHERE id = ?",
+                    board.get("TITLE"), board.get("VERSION"), board.get("UPDATED_AT"), board.get("ID"));
+        }
+        for (int i = 0; i < SEQUENCES.length; i++) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + SEQUENCES[i] + " RESTART WITH " + sequenceSnapshot.get(i));
+        }
+        // JDBC 로 직접 되돌렸으므로 캐시도 비움
+        emf.getCache().evictAll();
+        boardDetailCache.evictAll();
+    }
+
+    @Test
+    @DisplayName("데이터 내보내기 / 가져오기 테스트 - 비운 데이터베이스에 내보낸 파일을 그대로 복원")
+    public void export_import_round_trip_test() throws Exception {
+        // given
+        long users = count("user_tb");
+        long boards = count("board_tb");
+        long replies = count("reply_tb");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long lines = boardBackupService.exportTo(out);
+        emptyDatabase();
+
+        // when
+        BoardResponse.ImportDTO result = boardBackupService.importFrom(new ByteArrayInputStream(out.toByteArray()));
+
+        // then
+        assertEquals(users + boards + replies, lines, "모든 레코드가 한 줄씩 출력되어야 합니다.");
+        assertEquals(lines, out.toString(StandardCharsets.UTF_8).lines().count());
+        assertEquals(users, result.getUsers());
+        assertEquals(boards, result.getBoards());
+        assertEquals(replies, result.getReplies());
+        assertEquals(boards, count("board_tb"));
+        assertEquals("제목1", jdbcTemplate.queryForObject("SELECT title FROM board_tb WHERE id = 1", String.class));
+        // 새로 할당되는 ID 범위(시퀀스 값 - allocationSize + 1 부터)는 가져온 ID 보다 커야 합니다.
+        for (int i = 0; i < TABLES.length; i++) {
+            long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + TABLES[i], Long.class);
+            assertTrue(sequenceValue(SEQUENCES[i]) - 50 > maxId, SEQUENCES[i] + " 는 가져온 ID 이후부터 할당되어야 합니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("데이터 가져오기 테스트 - 데이터가 있거나 시퀀스를 사용한 데이터베이스에는 가져오지 않음 (400)")
+    public void import_into_used_database_test() {
+        // 행이 있는 경우 - 기존 행을 덮어쓰지 않음
+        long boards = count("board_tb");
+        jdbcTemplate.update("UPDATE board_tb SET title = '변경된 제목' WHERE id = 1");
+        assertThrows(Exception400.class, () -> boardBackupService.importFrom(new ByteArrayInputStream(backup)));
+        assertEquals(boards, count("board_tb"));
+        assertEquals("변경된 제목", jdbcTemplate.queryForObject("SELECT title FROM board_tb WHERE id = 1", String.class));
+
+        // 행은 없지만 시퀀스를 사용한 경우 - Hibernate 가 할당받아 둔 ID 와 겹칠 수 있음
+        emptyDatabase();
+        jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR BOARD_SEQ", Long.class);
+        assertThrows(Exception400.class, () -> boardBackupService.importFrom(new ByteArrayInputStream(backup)));
+        assertEquals(0, count("user_tb"));
+    }
+
+    @Test
+    @DisplayName("데이터 내보내기 테스트 - 출력하는 동안 영속성 컨텍스트의 엔티티 수가 늘어나지 않음")
+    public void export_keeps_persistence_context_bounded_test() throws Exception {
+        // given: 비우는 단위(FETCH_SIZE)의 3배 가량 댓글 추가
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < BoardBackupService.FETCH_SIZE * 3; i++) {
+            rows.add(new Object[]{EXTRA_REPLY_ID + i, "댓글" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reply_tb(id, comment, board_id, user_id, created_at, status) "
+                + "VALUES(?, ?, 1, 1, NOW(), 'ACTIVE')", rows);
+        long expected = count("user_tb") + count("board_tb") + count("reply_tb");
+
+        // 출력 스트림에 쓸 때마다 (내보내기 트랜잭션 안에서) 관리 중인 엔티티 수를 기록
+        List<Integer> managed = new ArrayList<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                managed.add(em.unwrap(SessionImplementor.class).getPersistenceContextInternal().getNumberOfManagedEntities());
+                super.write(b, off, len);
+            }
+        };
+
+        // when
+        long lines = boardBackupService.exportTo(out);
+
+        // then
+        assertEquals(expected, lines);
+        assertTrue(managed.size() > 3, "출력이 여러 번에 나누어 스트리밍되어야 합니다. (" + managed.size() + "회)");
+        int max = managed.stream().mapToInt(Integer::intValue).max().orElse(0);
+        assertTrue(max < BoardBackupService.FETCH_SIZE,
+                "영속성 컨텍스트에 엔티티가 쌓이면 안 됩니다. (최대 " + max + "개, 전체 " + lines + "줄)");
+    }
+
+    @Test
+    @DisplayName("데이터 가져오기 테스트 - 필수 값이 없는 줄은 400")
+    public void import_invalid_line_test() {
+        // given
+        emptyDatabase();
+        String ndjson = "{\"type\":\"reply\",\"id\":9999,\"comment\":\"댓글\"}\n";
+
+        // when & then
+        assertThrows(Exception400.class,
+                () -> boardBackupService.importFrom(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    // 가져오기가 가능한 상태로 만듦 - 모든 행 삭제 (외래 키 역순), 시퀀스는 사용 전 상태로
+    private void emptyDatabase() {
+        emptied = true;
+        for (int i = TABLES.length - 1; i >= 0; i--) {
+            jdbcTemplate.update("DELETE FROM " + TABLES[i]);
+        }
+        for (String sequence : SEQUENCES) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH 1");
+        }
+    }
+
+    private long sequenceValue(String sequence) {
+        return jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?", Long.class, sequence);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
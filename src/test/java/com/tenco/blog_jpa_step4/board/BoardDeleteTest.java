@@ -0,0 +1,104 @@
+package com.tenco.blog_jpa_step4.board;
+
+import com.tenco.blog_jpa_step4.reply.Reply;
+import com.tenco.blog_jpa_step4.user.User;
+import com.tenco.blog_jpa_step4.user.UserJPARepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * BoardDeleteTest 는 댓글이 많은 게시글을 삭제할 때 댓글이 청크 단위로 나눠서(청크마다 커밋) 삭제되는지 확인하는 테스트입니다.
+ * 청크마다 트랜잭션이 커밋되어야 하므로 클래스에 @Transactional 을 붙이지 않고, 작성자는 테스트 후 삭제합니다.
+ */
+@SpringBootTest
+public class BoardDeleteTest {
+
+    // 청크 2개 + 남은 댓글 (1,000 + 1,000 + 500)
+    private static final int REPLIES = BoardService.REPLY_DELETE_CHUNK_SIZE * 2 + BoardService.REPLY_DELETE_CHUNK_SIZE / 2;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardJPARepository boardJPARepository;
+
+    @Autowired
+    private UserJPARepository userJPARepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Test
+    @DisplayName("게시글 삭제 테스트 - 댓글을 청크마다 별도 트랜잭션으로 삭제 (댓글 2,500개)")
+    public void deleteBoard_chunked_commit_test() {
+        // given
+        int[] ids = saveBoardWithReplies();
+        int boardId = ids[0];
+        int writerId = ids[1];
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            // when
+            boardService.deleteBoard(boardId, writerId);
+
+            // then: 권한 확인 조회 1번 + 댓글 청크 삭제 3번 + 게시글(남은 댓글 포함) 삭제 1번, 모두 각각 커밋
+            int chunks = (REPLIES + BoardService.REPLY_DELETE_CHUNK_SIZE - 1) / BoardService.REPLY_DELETE_CHUNK_SIZE;
+            assertEquals(1 + chunks + 1, statistics.getSuccessfulTransactionCount(),
+                    "댓글 청크마다 트랜잭션이 커밋되어야 합니다.");
+            assertFalse(boardJPARepository.existsById(boardId));
+            assertEquals(0L, countReplies(boardId));
+        } finally {
+            userJPARepository.deleteById(writerId);
+        }
+    }
+
+    private long countReplies(int boardId) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                em.createQuery("select count(r) from Reply r where r.board.id = :boardId", Long.class)
+                        .setParameter("boardId", boardId)
+                        .getSingleResult());
+    }
+
+    // 게시글 1개와 댓글 REPLIES 개 저장 후 커밋 - {게시글 ID, 작성자 ID}
+    private int[] saveBoardWithReplies() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User writer = User.builder().username("삭제테스터" + System.nanoTime()).password("1234").role("USER").build();
+            em.persist(writer);
+            Board board = Board.builder().title("삭제할 글").content("내용").user(writer).build();
+            em.persist(board);
+            int[] ids = {board.getId(), writer.getId()};
+
+            for (int i = 0; i < REPLIES; i++) {
+                em.persist(Reply.builder()
+                        .comment("댓글" + i)
+                        .board(em.getReference(Board.class, ids[0]))
+                        .user(em.getReference(User.class, ids[1]))
+                        .build());
+                if ((i + 1) % 500 == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+            return ids;
+        });
+    }
+}
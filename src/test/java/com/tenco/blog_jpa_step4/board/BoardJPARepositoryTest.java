@@ -1,13 +1,121 @@
 package com.tenco.blog_jpa_step4.board;
 
+import com.tenco.blog_jpa_step4.user.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * BoardJPARepositoryTest는 BoardJPARepository의 기능을 테스트하기 위한 클래스입니다.
  * @DataJpaTest 어노테이션을 사용하여 JPA 관련 컴포넌트만 로드하여 테스트 환경을 최적화합니다.
  */
-@DataJpaTest
+@DataJpaTest(showSql = false) // 대량 데이터 저장 시 SQL 로그 출력 생략
 public class BoardJPARepositoryTest {
+
+    private static final int ROWS = 10_000;
+
+    @Autowired
+    private BoardJPARepository boardJPARepository;
+
+    @Autowired
+    private EntityManager em;
+
+    /**
+     * 목록 조회 시 엔티티 조회와 DTO 프로젝션 조회의 메모리 사용량을 비교합니다.
+     * - 힙 점유: 조회 후 영속성 컨텍스트에 남아있는 엔티티 / 스냅샷 수 (트랜잭션 종료까지 유지됨) - 검증
+     * - 할당량: 현재 스레드가 조회 + DTO 변환 중에 할당한 바이트 수 - JIT, 쿼리 플랜 캐시에 따라 달라지므로 출력만 함
+     */
+    @Test
+    @DisplayName("게시글 목록 프로젝션 조회 할당량 비교 테스트 (10k rows)")
+    public void findListByCursor_allocation_test() {
+        // given: 게시글 10,000 건 저장
+        User writer = User.builder().username("목록테스터").password("1234").role("USER").build();
+        em.persist(writer);
+        for (int i = 0; i < ROWS; i++) {
+            em.persist(Board.builder().title("제목" + i).content("내용".repeat(100)).user(writer).build());
+            if (i % 500 == 0) {
+                em.flush();
+                em.clear();
+                writer = em.getReference(User.class, writer.getId());
+            }
+        }
+        em.flush();
+        em.clear();
+
+        Pageable all = PageRequest.of(0, ROWS);
+        Session session = em.unwrap(Session.class);
+
+        // 워밍업 (쿼리 플랜 캐시, 클래스 로딩 등의 비용 제외)
+        findEntitiesByCursor(Integer.MAX_VALUE, ROWS);
+        em.clear();
+        boardJPARepository.findListByCursor(Integer.MAX_VALUE, all);
+        em.clear();
+
+        // when: 엔티티 조회 후 DTO 변환 (기존 방식)
+        long entityBytes = allocatedBytes(() -> findEntitiesByCursor(Integer.MAX_VALUE, ROWS)
+                .stream().map(BoardResponse.ListDTO::new).toList());
+        int managedByEntityQuery = session.getStatistics().getEntityCount();
+        long snapshotsByEntityQuery = snapshotCount(session);
+        em.clear();
+
+        // when: DTO 프로젝션 조회
+        List<BoardResponse.ListDTO> projected = boardJPARepository.findListByCursor(Integer.MAX_VALUE, all);
+        em.clear();
+        long projectionBytes = allocatedBytes(() -> boardJPARepository.findListByCursor(Integer.MAX_VALUE, all));
+        int managedByProjection = session.getStatistics().getEntityCount();
+        long snapshotsByProjection = snapshotCount(session);
+
+        // eye
+        System.out.printf("목록 %d건 - 엔티티 조회: %,d bytes (관리 엔티티 %d개), 프로젝션 조회: %,d bytes (관리 엔티티 %d개), 절감: %,d bytes%n",
+                projected.size(), entityBytes, managedByEntityQuery, projectionBytes, managedByProjection,
+                entityBytes - projectionBytes);
+
+        // then
+        assertTrue(projected.size() >= ROWS, "저장한 게시글이 모두 조회되어야 합니다.");
+        assertTrue(managedByEntityQuery >= ROWS, "엔티티 조회는 영속성 컨텍스트에 엔티티를 올립니다.");
+        assertTrue(snapshotsByEntityQuery >= ROWS, "엔티티 조회는 변경 감지용 스냅샷을 함께 보관합니다.");
+        assertEquals(0, managedByProjection, "프로젝션 조회는 영속성 컨텍스트에 엔티티를 올리지 않아야 합니다.");
+        assertEquals(0, snapshotsByProjection, "프로젝션 조회는 스냅샷을 보관하지 않아야 합니다.");
+    }
+
+    // 기존 방식 (비교용) - 목록을 엔티티로 조회 (id < :cursor ORDER BY id DESC LIMIT size)
+    private List<Board> findEntitiesByCursor(int cursor, int size) {
+        return em.createQuery("select b from Board b where b.id < :cursor order by b.id desc", Board.class)
+                .setParameter("cursor", cursor)
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    // 영속성 컨텍스트에서 변경 감지용 스냅샷(loaded state)을 가진 엔티티 수
+    private static long snapshotCount(Session session) {
+        return Arrays.stream(session.unwrap(SessionImplementor.class).getPersistenceContextInternal()
+                        .reentrantSafeEntityEntries())
+                .filter(entry -> entry.getValue().getLoadedState() != null)
+                .count();
+    }
+
+    // 현재 스레드가 작업 중에 할당한 바이트 수를 측정합니다. (HotSpot 전용 API)
+    private static long allocatedBytes(Runnable work) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        work.run();
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
 //    @Autowired
 //    private BoardJPARepository boardJPARepository; // BoardJPARepository 빈을 주입받습니다.
 //
@@ -0,0 +1,64 @@
+package com.tenco.blog_jpa_step4.board;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * BoardSearchIndexTest 는 검색 색인의 토큰 분리와 검색 결과 순서(점수, 페이지)를 확인하는 테스트입니다.
+ * 색인은 트랜잭션 밖에서 바로 반영되므로 스프링 컨텍스트 없이 실행됩니다.
+ */
+public class BoardSearchIndexTest {
+
+    @Test
+    @DisplayName("토큰 분리 테스트 - 영문/숫자는 단어(소문자), 한글은 2글자 단위")
+    public void tokenize_test() {
+        assertEquals(List.of("spring", "boot", "3"), BoardSearchIndex.tokenize("Spring-Boot 3"));
+        assertEquals(List.of("게시", "시글", "글을"), BoardSearchIndex.tokenize("게시글을"));
+        assertEquals(List.of("jpa", "게시", "시판"), BoardSearchIndex.tokenize("JPA게시판"), "한글/영문 구간이 바뀌면 나눠야 합니다.");
+        assertEquals(List.of("글"), BoardSearchIndex.tokenize("글!"), "한 글자 한글은 그대로 토큰이 됩니다.");
+        assertEquals(List.of(), BoardSearchIndex.tokenize(null));
+        assertEquals(List.of(), BoardSearchIndex.tokenize(" ,.! "));
+    }
+
+    @Test
+    @DisplayName("검색 순위 테스트 - 제목 일치가 본문 일치보다 먼저, 점수가 같으면 최신 글 먼저")
+    public void search_rank_test() {
+        // given
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        index.index(1, "일상", "오늘은 스프링 공부");
+        index.index(2, "스프링 입문", "첫 글");
+        index.index(3, "일상", "오늘도 스프링 공부");
+        index.index(4, "여행", "바다");
+
+        // when
+        BoardSearchIndex.SearchResult result = index.search("스프링", 0, 10);
+
+        // then: 제목 가중치로 2번이 먼저, 본문만 일치하는 1, 3번은 최신(ID 큰) 순
+        assertEquals(3, result.total());
+        assertEquals(List.of(2, 3, 1), result.ids());
+    }
+
+    @Test
+    @DisplayName("검색 페이지 테스트 - offset/limit 으로 나눈 결과가 전체 순서와 같음, 수정/삭제 반영")
+    public void search_page_and_update_test() {
+        // given
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        for (int id = 1; id <= 5; id++) {
+            index.index(id, "제목", "jpa");
+        }
+
+        // when & then: 점수가 같으므로 ID 내림차순
+        assertEquals(List.of(5, 4), index.search("jpa", 0, 2).ids());
+        assertEquals(List.of(3, 2), index.search("jpa", 2, 2).ids());
+        assertEquals(List.of(1), index.search("jpa", 4, 2).ids());
+        assertEquals(List.of(), index.search("jpa", 10, 2).ids());
+
+        index.index(5, "제목", "수정된 내용");
+        index.remove(4);
+        assertEquals(List.of(3, 2, 1), index.search("jpa", 0, 10).ids());
+    }
+}
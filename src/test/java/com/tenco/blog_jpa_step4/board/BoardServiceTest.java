@@ -0,0 +1,318 @@
+package com.tenco.blog_jpa_step4.board;
+
+import com.tenco.blog_jpa_step4.commom.QueryBudget;
+import com.tenco.blog_jpa_step4.commom.errors.Exception400;
+import com.tenco.blog_jpa_step4.reply.Reply;
+import com.tenco.blog_jpa_step4.reply.ReplyRequest;
+import com.tenco.blog_jpa_step4.reply.ReplyService;
+import com.tenco.blog_jpa_step4.user.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BoardServiceTest 는 BoardService 의 조회 쿼리 수를 검증하는 테스트입니다.
+ * 테스트가 끝나면 저장한 데이터는 롤백됩니다.
+ */
+@SpringBootTest
+@Transactional
+public class BoardServiceTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private ReplyService replyService;
+
+    @Autowired
+    private BoardReplyCountReconciler boardReplyCountReconciler;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Test
+    @DisplayName("게시글 상세보기 SQL 실행 횟수 테스트 - 댓글 수와 관계없이 일정")
+    public void getBoardDetails_statement_budget_test() {
+        // given: 서로 다른 사용자 50명이 댓글을 단 게시글
+        int replyCount = 50;
+        int boardId = saveBoardWithReplies(replyCount);
+
+        // when: 게시글(+작성자) 1번, 댓글 첫 페이지(+작성자) 1번
+        BoardResponse.DetailDTO detail = QueryBudget.assertMaxStatements(emf, 2,
+                () -> boardService.getBoardDetails(boardId, null));
+
+        // then: 상세보기에는 REPLY_LIMIT 개까지만 포함
+        assertEquals(BoardResponse.DetailDTO.REPLY_LIMIT, detail.getReplies().size());
+        assertNotNull(detail.getNextReplyCursor(), "나머지 댓글 조회용 커서가 있어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("게시글 검색 테스트 - 검색 가능한 범위를 넘는 페이지는 400 (page * size 오버플로 포함)")
+    public void searchBoards_page_out_of_range_test() {
+        assertThrows(Exception400.class, () -> boardService.searchBoards("제목", Integer.MAX_VALUE, 100));
+        assertThrows(Exception400.class, () -> boardService.searchBoards("제목",
+                BoardService.SEARCH_MAX_OFFSET / 10 + 1, 10));
+        assertNotNull(boardService.searchBoards("제목", BoardService.SEARCH_MAX_OFFSET / 10, 10));
+    }
+
+    @Test
+    @DisplayName("게시글 버전 테스트 - 게시글 수정 시 버전 증가 (ETag 변경)")
+    public void updateBoard_version_test() {
+        // given
+        int boardId = saveBoardWithReplies(0);
+        int writerId = em.find(Board.class, boardId).getUser().getId();
+        long before = boardService.getBoardVersion(boardId).getVersion();
+        BoardRequest.UpdateDTO updateDTO = new BoardRequest.UpdateDTO();
+        updateDTO.setTitle("수정된 제목");
+        updateDTO.setContent("수정된 내용");
+
+        // when
+        boardService.updateBoard(boardId, writerId, updateDTO);
+        em.flush();
+        em.clear();
+
+        // then
+        assertEquals(before + 1, boardService.getBoardVersion(boardId).getVersion());
+        assertEquals("수정된 제목", em.find(Board.class, boardId).getTitle());
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 테스트 - 댓글 엔티티를 조회하지 않고 삭제")
+    public void deleteBoard_without_loading_replies_test() {
+        // given
+        int boardId = saveBoardWithReplies(50);
+        int writerId = em.find(Board.class, boardId).getUser().getId();
+        em.clear();
+        emf.getCache().evictAll(); // 권한 확인용 조회가 2차 캐시가 아닌 DB 에서 이루어지도록
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        boardService.deleteBoard(boardId, writerId);
+        em.clear();
+
+        // then: 권한 확인용 게시글 1건만 엔티티로 조회
+        assertEquals(1, statistics.getEntityLoadCount(), "댓글 엔티티를 조회하지 않아야 합니다.");
+        assertEquals(0L, em.createQuery("select count(r) from Reply r where r.board.id = :boardId", Long.class)
+                .setParameter("boardId", boardId).getSingleResult());
+        assertEquals(null, em.find(Board.class, boardId));
+    }
+
+    @Test
+    @DisplayName("2차 캐시 테스트 - 한 번 조회한 게시글과 작성자는 SQL 없이 조회")
+    public void second_level_cache_test() {
+        // given: 2차 캐시를 비운 뒤 게시글과 작성자를 한 번씩 DB 에서 조회 (이때 캐시에 저장)
+        int boardId = saveBoardWithReplies(0);
+        emf.getCache().evictAll();
+        int writerId = em.find(Board.class, boardId).getUser().getId();
+        em.find(User.class, writerId);
+        em.clear();
+
+        // when: 영속성 컨텍스트를 비운 뒤 다시 조회
+        QueryBudget.assertMaxStatements(emf, 0, () -> {
+            em.find(Board.class, boardId);
+            return em.find(User.class, writerId);
+        });
+
+        // then: board, user 영역에서 각각 1번씩 적중
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        assertEquals(1, statistics.getDomainDataRegionStatistics("board").getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("user").getHitCount());
+        assertTrue(emf.getCache().contains(Board.class, boardId));
+    }
+
+    @Test
+    @DisplayName("2차 캐시 테스트 - 게시글 A 에 댓글을 작성해도 게시글 B 는 캐시에 남음")
+    public void second_level_cache_reply_eviction_test() {
+        // given: 게시글 A, B 를 한 번씩 조회해서 2차 캐시에 저장
+        int boardA = saveBoardWithReplies(0);
+        int boardB = saveBoardWithReplies(0);
+        emf.getCache().evictAll();
+        User replier = em.find(Board.class, boardA).getUser();
+        em.find(Board.class, boardB);
+        em.clear();
+
+        // when: 게시글 A 에 댓글 작성 (댓글 수/버전 증가)
+        ReplyRequest.SaveDTO saveDTO = new ReplyRequest.SaveDTO();
+        saveDTO.setBoardId(boardA);
+        saveDTO.setComment("캐시 테스트 댓글");
+        replyService.saveReply(saveDTO, User.builder().id(replier.getId()).username(replier.getUsername()).build());
+        em.flush();
+        em.clear();
+
+        // then: A 만 제거되고 B 는 SQL 없이 조회
+        assertFalse(emf.getCache().contains(Board.class, boardA), "댓글이 달린 게시글은 캐시에서 제거되어야 합니다.");
+        assertTrue(emf.getCache().contains(Board.class, boardB), "다른 게시글은 캐시에 남아 있어야 합니다.");
+        QueryBudget.assertMaxStatements(emf, 0, () -> em.find(Board.class, boardB));
+        assertEquals(1, em.find(Board.class, boardA).getReplyCount());
+    }
+
+    @Test
+    @DisplayName("2차 캐시 테스트 - 게시글 A 를 삭제해도 게시글 B 는 캐시에 남음")
+    public void second_level_cache_delete_eviction_test() {
+        // given: 게시글 A, B 를 한 번씩 조회해서 2차 캐시에 저장
+        int boardA = saveBoardWithReplies(0);
+        int boardB = saveBoardWithReplies(0);
+        emf.getCache().evictAll();
+        int writerId = em.find(Board.class, boardA).getUser().getId();
+        em.find(Board.class, boardB);
+        em.clear();
+
+        // when
+        boardService.deleteBoard(boardA, writerId);
+        em.clear();
+
+        // then: A 만 제거되고 B 는 SQL 없이 조회
+        assertFalse(emf.getCache().contains(Board.class, boardA), "삭제한 게시글은 캐시에서 제거되어야 합니다.");
+        assertTrue(emf.getCache().contains(Board.class, boardB), "다른 게시글은 캐시에 남아 있어야 합니다.");
+        QueryBudget.assertMaxStatements(emf, 0, () -> em.find(Board.class, boardB));
+        assertEquals(null, em.find(Board.class, boardA));
+    }
+
+    @Test
+    @DisplayName("댓글 수 테스트 - 댓글 작성/삭제 시 reply_count 가 정확히 1씩 증감")
+    public void saveReply_deleteReply_reply_count_test() {
+        // given
+        int boardId = saveBoardWithReplies(0);
+        User writer = em.find(Board.class, boardId).getUser();
+        User sessionUser = User.builder().id(writer.getId()).username(writer.getUsername()).build();
+        int before = replyCount(boardId);
+        ReplyRequest.SaveDTO saveDTO = new ReplyRequest.SaveDTO();
+        saveDTO.setBoardId(boardId);
+        saveDTO.setComment("댓글 수 테스트 댓글");
+
+        // when: 댓글 작성
+        replyService.saveReply(saveDTO, sessionUser);
+        em.flush();
+        em.clear();
+
+        // then
+        assertEquals(before + 1, replyCount(boardId));
+
+        // when: 작성한 댓글 삭제
+        Integer replyId = em.createQuery("select r.id from Reply r where r.board.id = :boardId", Integer.class)
+                .setParameter("boardId", boardId).getSingleResult();
+        replyService.deleteReply(replyId, writer.getId(), boardId);
+        em.flush();
+        em.clear();
+
+        // then
+        assertEquals(before, replyCount(boardId));
+    }
+
+    @Test
+    @DisplayName("댓글 수 보정 테스트 - 실제 ACTIVE 댓글 수와 다른 reply_count 를 보정")
+    public void reconcile_drifted_reply_count_test() {
+        // given: ACTIVE 댓글 3개, reply_count 는 직접 수정해서 어긋난 상태
+        int boardId = saveBoardWithReplies(3);
+        em.createNativeQuery("UPDATE board_tb SET reply_count = 99 WHERE id = ?")
+                .setParameter(1, boardId).executeUpdate();
+        assertEquals(99, replyCount(boardId));
+
+        // when
+        boardReplyCountReconciler.reconcile();
+        em.clear();
+
+        // then
+        assertEquals(3, replyCount(boardId));
+        assertEquals(3, em.find(Board.class, boardId).getReplyCount(), "2차 캐시에도 보정된 값이 보여야 합니다.");
+    }
+
+    /**
+     * 게시글 일괄 작성 시 JDBC 배치 적용 전후의 INSERT 처리량을 비교합니다.
+     * 같은 트랜잭션(세션)의 JDBC 배치 크기를 1(배치 없음)과 기본값(50)으로 바꿔가며 측정합니다.
+     */
+    @Test
+    @DisplayName("게시글 일괄 작성 JDBC 배치 INSERT 비교 테스트")
+    public void createBoards_jdbc_batch_test() {
+        // given
+        User writer = User.builder().username("일괄작성자").password("1234").role("USER").build();
+        em.persist(writer);
+        em.flush();
+        List<BoardRequest.SaveDTO> reqDTOs = new ArrayList<>();
+        for (int i = 0; i < BoardService.BATCH_LIMIT; i++) {
+            BoardRequest.SaveDTO reqDTO = new BoardRequest.SaveDTO();
+            reqDTO.setTitle("일괄 제목" + i);
+            reqDTO.setContent("일괄 내용" + i);
+            reqDTOs.add(reqDTO);
+        }
+        Session session = em.unwrap(Session.class);
+        boardService.createBoards(reqDTOs.subList(0, 100), writer); // 워밍업
+
+        // when
+        session.setJdbcBatchSize(1);
+        InsertRun unbatched = measureInserts(() -> boardService.createBoards(reqDTOs, writer));
+        session.setJdbcBatchSize(null); // 설정 파일 값(hibernate.jdbc.batch_size) 사용
+        InsertRun batched = measureInserts(() -> boardService.createBoards(reqDTOs, writer));
+
+        // eye
+        System.out.printf("게시글 %d건 INSERT - 배치 없음: %,.0f건/초 (SQL %d번), 배치: %,.0f건/초 (SQL %d번)%n",
+                reqDTOs.size(), unbatched.insertsPerSecond(reqDTOs.size()), unbatched.statements(),
+                batched.insertsPerSecond(reqDTOs.size()), batched.statements());
+
+        // then: 배치 INSERT 는 50건을 한 번에 전송 (시퀀스 조회 포함해도 1/10 이하)
+        assertTrue(unbatched.statements() >= reqDTOs.size(), "배치가 없으면 INSERT 가 건마다 실행됩니다.");
+        assertTrue(batched.statements() * 10 < unbatched.statements(), "배치 INSERT 는 SQL 실행 횟수가 크게 줄어야 합니다.");
+    }
+
+    record InsertRun(long nanos, long statements) {
+        double insertsPerSecond(int count) {
+            return count * 1_000_000_000.0 / nanos;
+        }
+    }
+
+    private InsertRun measureInserts(Runnable insert) {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        long start = System.nanoTime();
+        insert.run();
+        em.flush();
+        em.clear();
+        return new InsertRun(System.nanoTime() - start, statistics.getPrepareStatementCount());
+    }
+
+    // 2차 캐시를 거치지 않고 DB 의 reply_count 를 조회
+    private int replyCount(int boardId) {
+        return ((Number) em.createNativeQuery("SELECT reply_count FROM board_tb WHERE id = ?")
+                .setParameter(1, boardId).getSingleResult()).intValue();
+    }
+
+    // 게시글과 댓글을 저장한 후 영속성 컨텍스트를 비워 실제 조회 쿼리가 실행되도록 한다.
+    private int saveBoardWithReplies(int replyCount) {
+        User writer = User.builder().username("작성자" + System.nanoTime()).password("1234").role("USER").build();
+        em.persist(writer);
+        Board board = Board.builder().title("댓글 많은 글").content("내용").user(writer).build();
+        em.persist(board);
+
+        for (int i = 0; i < replyCount; i++) {
+            User replier = User.builder().username("댓글러" + i).password("1234").role("USER").build();
+            em.persist(replier);
+            em.persist(Reply.builder().comment("댓글" + i).board(board).user(replier).build());
+        }
+
+        em.flush();
+        em.clear();
+        return board.getId();
+    }
+}
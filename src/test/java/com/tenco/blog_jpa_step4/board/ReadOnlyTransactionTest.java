@@ -0,0 +1,136 @@
+package com.tenco.blog_jpa_step4.board;
+
+import com.tenco.blog_jpa_step4.reply.Reply;
+import com.tenco.blog_jpa_step4.reply.ReplyJPARepository;
+import com.tenco.blog_jpa_step4.user.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ReadOnlyTransactionTest 는 읽기 전용 트랜잭션(@Transactional(readOnly = true))의 효과를 측정하는 테스트입니다.
+ * 댓글이 많은 게시글의 댓글 엔티티를 읽기/쓰기 트랜잭션과 읽기 전용 트랜잭션에서 각각 조회해서 비교합니다.
+ * - 영속성 컨텍스트 메모리: 변경 감지용 스냅샷(loadedState) 보관 여부
+ * - flush 시간: 변경 감지(dirty checking) 비용과 커밋 시 자동 flush 여부
+ * 트랜잭션을 직접 커밋해야 하므로 클래스에 @Transactional 을 붙이지 않고, 저장한 데이터는 테스트 후 삭제합니다.
+ */
+@SpringBootTest
+public class ReadOnlyTransactionTest {
+
+    private static final int REPLIES = 5_000;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private ReplyJPARepository replyJPARepository;
+
+    @Autowired
+    private BoardService boardService;
+
+    record Run(int entities, long snapshotValues, long flushNanos, long commitFlushes) {
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 테스트 - 스냅샷 미보관, 커밋 시 flush 생략 (댓글 5,000개)")
+    public void readOnly_persistence_context_test() {
+        // given
+        int[] ids = saveBoardWithReplies();
+        int boardId = ids[0];
+        try {
+            load(boardId, false); // 워밍업
+
+            // when
+            Run readWrite = load(boardId, false);
+            Run readOnly = load(boardId, true);
+
+            // eye
+            System.out.printf("댓글 %d개 조회 - 읽기/쓰기: 스냅샷 값 %,d개, flush %,d µs, 커밋 flush %d번 / " +
+                            "읽기 전용: 스냅샷 값 %,d개, flush %,d µs, 커밋 flush %d번%n",
+                    readWrite.entities(), readWrite.snapshotValues(), readWrite.flushNanos() / 1000, readWrite.commitFlushes(),
+                    readOnly.snapshotValues(), readOnly.flushNanos() / 1000, readOnly.commitFlushes());
+
+            // then
+            assertEquals(REPLIES, readWrite.entities());
+            assertEquals(REPLIES, readOnly.entities());
+            assertTrue(readWrite.snapshotValues() >= REPLIES, "읽기/쓰기 트랜잭션은 엔티티마다 스냅샷을 보관합니다.");
+            assertEquals(0, readOnly.snapshotValues(), "읽기 전용 트랜잭션은 스냅샷을 보관하지 않아야 합니다.");
+            assertEquals(1, readWrite.commitFlushes(), "읽기/쓰기 트랜잭션은 커밋 시 flush 합니다.");
+            assertEquals(0, readOnly.commitFlushes(), "읽기 전용 트랜잭션(FlushMode.MANUAL)은 커밋 시 flush 하지 않아야 합니다.");
+        } finally {
+            boardService.deleteBoard(boardId, ids[1]);
+        }
+    }
+
+    // 게시글의 댓글 전체를 엔티티로 조회하고, 영속성 컨텍스트 상태와 flush 비용을 측정
+    private Run load(int boardId, boolean readOnly) {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        long[] measured = transactionTemplate.execute(status -> {
+            List<Reply> replies = replyJPARepository.findByBoardId(boardId);
+            PersistenceContext persistenceContext = em.unwrap(SessionImplementor.class).getPersistenceContextInternal();
+            long snapshotValues = 0;
+            for (Reply reply : replies) {
+                Object[] loadedState = persistenceContext.getEntry(reply).getLoadedState();
+                if (loadedState != null) {
+                    snapshotValues += loadedState.length;
+                }
+            }
+
+            long start = System.nanoTime();
+            em.flush(); // 커밋 시 flush 와 같은 변경 감지 작업
+            long flushNanos = System.nanoTime() - start;
+            statistics.clear(); // 이후 커밋 시 자동 flush 만 센다
+            return new long[]{replies.size(), snapshotValues, flushNanos};
+        });
+        return new Run((int) measured[0], measured[1], measured[2], statistics.getFlushCount());
+    }
+
+    // 게시글 1개와 댓글 REPLIES 개 저장 후 커밋 - {게시글 ID, 작성자 ID}
+    private int[] saveBoardWithReplies() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User writer = User.builder().username("읽기전용테스터" + System.nanoTime()).password("1234").role("USER").build();
+            em.persist(writer);
+            Board board = Board.builder().title("댓글 많은 글").content("내용").user(writer).build();
+            em.persist(board);
+            int[] ids = {board.getId(), writer.getId()};
+
+            for (int i = 0; i < REPLIES; i++) {
+                Reply reply = Reply.builder()
+                        .comment("댓글" + i)
+                        .board(em.getReference(Board.class, ids[0]))
+                        .user(em.getReference(User.class, ids[1]))
+                        .build();
+                em.persist(reply);
+                if ((i + 1) % 500 == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+            return ids;
+        });
+    }
+}
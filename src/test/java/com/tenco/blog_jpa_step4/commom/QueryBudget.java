@@ -0,0 +1,37 @@
+package com.tenco.blog_jpa_step4.commom;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * QueryBudget 은 서비스 호출 한 번에 실행된 SQL 문 수를 세고,
+ * 허용 개수(budget)를 넘으면 테스트를 실패시키는 테스트 유틸리티입니다.
+ * N+1 문제가 다시 생기는 것을 막기 위한 회귀 테스트에서 사용합니다.
+ */
+public class QueryBudget {
+
+    /**
+     * @param emf EntityManagerFactory
+     * @param budget 허용하는 최대 SQL 문 수
+     * @param call 측정할 서비스 호출
+     * @return 서비스 호출 결과
+     */
+    public static <T> T assertMaxStatements(EntityManagerFactory emf, int budget, Supplier<T> call) {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        T result = call.get();
+
+        long executed = statistics.getPrepareStatementCount();
+        if (executed > budget) {
+            fail("SQL 실행 횟수가 허용치를 넘었습니다. 허용: " + budget + ", 실행: " + executed);
+        }
+        return result;
+    }
+}
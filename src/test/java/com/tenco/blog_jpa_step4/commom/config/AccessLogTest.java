@@ -0,0 +1,93 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import com.tenco.blog_jpa_step4.commom.utils.Define;
+import com.tenco.blog_jpa_step4.commom.utils.JwtUtil;
+import com.tenco.blog_jpa_step4.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AccessLogTest 는 접근 로그 출력 형식, 버퍼가 가득 찼을 때 버린 개수 집계, 필터의 사용자 확인을 검증하는 테스트입니다.
+ * (스프링 컨텍스트 없이 실행)
+ */
+public class AccessLogTest {
+
+    @Test
+    @DisplayName("접근 로그 형식 테스트 - 처리 시간은 소수점 3자리 ms, 모르는 사용자/SQL 수는 -")
+    public void format_test() {
+        // given
+        StringBuilder known = new StringBuilder();
+        StringBuilder unknown = new StringBuilder();
+
+        // when
+        AccessLog.format(new AccessLog.Entry(0, "GET", "/boards/1", 200, 1_234_567, 7, 2), known);
+        AccessLog.format(new AccessLog.Entry(0, "POST", "/login", 401, 500_000, null, -1), unknown);
+
+        // then
+        assertEquals("ts=1970-01-01T00:00:00Z method=GET path=/boards/1 status=200 latency_ms=1.235 user=7 sql=2",
+                known.toString());
+        assertEquals("ts=1970-01-01T00:00:00Z method=POST path=/login status=401 latency_ms=0.500 user=- sql=-",
+                unknown.toString());
+    }
+
+    @Test
+    @DisplayName("접근 로그 버퍼 테스트 - 가득 차면 기다리지 않고 버리고, 버린 개수를 집계")
+    public void dropped_when_buffer_full_test() throws Exception {
+        // given: 크기 4, 출력 스레드 시작 전 (꺼내는 쪽이 없음)
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AccessLog accessLog = new AccessLog(4, registry);
+
+        // when
+        for (int i = 0; i < 7; i++) {
+            accessLog.record(new AccessLog.Entry(0, "GET", "/boards/" + i, 200, 1_000, null, -1));
+        }
+
+        // then
+        assertEquals(3.0, registry.get("blog.accesslog.dropped").counter().count());
+        assertEquals(4.0, registry.get("blog.accesslog.pending").gauge().value());
+
+        // when: 출력 스레드 시작 후 종료 - 남은 로그를 모두 출력
+        accessLog.start();
+        accessLog.stop();
+
+        // then
+        assertEquals(0.0, registry.get("blog.accesslog.pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("접근 로그 필터 테스트 - 공개 경로(세션 사용자 없음)도 Authorization 헤더의 JWT 로 사용자 기록")
+    public void filter_resolves_user_from_jwt_test() throws Exception {
+        // given
+        List<AccessLog.Entry> entries = new ArrayList<>();
+        AccessLog accessLog = new AccessLog(4, new SimpleMeterRegistry()) {
+            @Override
+            public void record(Entry entry) {
+                entries.add(entry);
+            }
+        };
+        AccessLogFilter filter = new AccessLogFilter(accessLog);
+        MockHttpServletRequest withToken = new MockHttpServletRequest("GET", "/boards");
+        withToken.addHeader(Define.AUTHORIZATION,
+                Define.BEARER + JwtUtil.create(User.builder().id(3).username("길동").role("USER").build()));
+
+        // when
+        filter.doFilter(withToken, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(new MockHttpServletRequest("GET", "/boards"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertEquals(2, entries.size());
+        assertEquals(3, entries.get(0).userId());
+        assertNull(entries.get(1).userId(), "비로그인 요청은 사용자가 없어야 합니다.");
+        assertEquals(200, entries.get(0).status());
+    }
+}
@@ -0,0 +1,36 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JacksonConfigTest 는 스프링이 만든 ObjectMapper (응답 변환에 쓰이는 것 포함)에 Blackbird 모듈이 등록되었는지 확인하는 테스트입니다.
+ * 모듈이 빠지면 직렬화는 그대로 동작하므로 응답만 봐서는 알 수 없습니다.
+ */
+@SpringBootTest
+public class JacksonConfigTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter messageConverter;
+
+    @Test
+    @DisplayName("Jackson 설정 테스트 - ObjectMapper 와 HTTP 메시지 변환기에 Blackbird 모듈 등록")
+    public void blackbird_module_registered_test() {
+        Object blackbird = new BlackbirdModule().getTypeId();
+
+        assertTrue(objectMapper.getRegisteredModuleIds().contains(blackbird),
+                "ObjectMapper 에 Blackbird 모듈이 등록되어야 합니다. " + objectMapper.getRegisteredModuleIds());
+        assertTrue(messageConverter.getObjectMapper().getRegisteredModuleIds().contains(blackbird),
+                "응답 변환에 쓰이는 ObjectMapper 에도 등록되어야 합니다.");
+    }
+}
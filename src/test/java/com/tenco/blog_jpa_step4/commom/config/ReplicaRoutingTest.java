@@ -0,0 +1,140 @@
+package com.tenco.blog_jpa_step4.commom.config;
+
+import com.tenco.blog_jpa_step4.board.BoardResponse;
+import com.tenco.blog_jpa_step4.board.BoardService;
+import com.tenco.blog_jpa_step4.commom.utils.Define;
+import com.tenco.blog_jpa_step4.commom.utils.JwtUtil;
+import com.tenco.blog_jpa_step4.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ReplicaRoutingTest 는 읽기/쓰기 DataSource 분리를 검증하는 테스트입니다.
+ * 별도의 H2 인메모리 DB 두 개를 원본(primary) / 복제본(replica)으로 사용하고,
+ * 복제는 테스트가 직접 원본의 SCRIPT 를 복제본에 실행해서 흉내냅니다. (sync 전까지는 복제 지연 상태)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingTest.PRIMARY_URL,
+        "spring.datasource.replica.url=" + ReplicaRoutingTest.REPLICA_URL,
+        "spring.datasource.replica.username=sa",
+        "spring.datasource.replica.read-your-writes-window=1m"
+})
+@AutoConfigureMockMvc
+public class ReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing_primary;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private MockMvc mvc;
+
+    // 애플리케이션 시작 직후(검색 색인 생성 전) 복제본 초기화
+    @TestConfiguration
+    static class ReplicaSyncConfig {
+        @EventListener(ContextRefreshedEvent.class)
+        public void syncOnStartup() throws SQLException {
+            syncReplica();
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        syncReplica();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서 조회 - 복제 전에는 원본에 쓴 데이터가 보이지 않음")
+    public void readOnly_routes_to_replica_test() throws Exception {
+        // given: 원본에만 게시글 저장 (복제 지연)
+        String title = "replica-check-" + System.nanoTime();
+        executeOnPrimary("INSERT INTO board_tb(id, title, content, user_id, created_at) " +
+                "VALUES (900001, '" + title + "', 'content', 1, NOW())"); // 시퀀스 범위와 겹치지 않는 ID
+
+        // when & then
+        assertFalse(listTitles().contains(title), "복제 전에는 복제본에서 조회되므로 보이지 않아야 합니다.");
+        syncReplica();
+        assertTrue(listTitles().contains(title), "복제 후에는 보여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("Read-your-writes - 방금 쓴 사용자는 원본에서, 다른 사용자는 복제본에서 조회")
+    public void read_your_writes_test() throws Exception {
+        // given: 사용자 2가 게시글 작성 (원본)
+        String writerToken = Define.BEARER + JwtUtil.create(User.builder().id(2).username("둘리").role("USER").build());
+        String title = "ryw-check-" + System.nanoTime();
+        mvc.perform(post("/api/boards")
+                        .header(Define.AUTHORIZATION, writerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\",\"content\":\"content\"}"))
+                .andExpect(status().isOk());
+
+        // when & then: 작성자는 바로 보이고, 비로그인 사용자는 복제 전까지 보이지 않음
+        mvc.perform(get("/boards").header(Define.AUTHORIZATION, writerToken))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(title)));
+        mvc.perform(get("/boards"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString(title))));
+    }
+
+    private List<String> listTitles() {
+        return boardService.getAllBoards(null, 100).getItems().stream()
+                .map(BoardResponse.ListDTO::getTitle)
+                .toList();
+    }
+
+    private static void executeOnPrimary(String sql) throws SQLException {
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Statement statement = primary.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // 원본 전체를 SCRIPT 로 내보내서 복제본에 그대로 실행 (복제 흉내)
+    static void syncReplica() throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Statement statement = primary.createStatement();
+             ResultSet resultSet = statement.executeQuery("SCRIPT")) {
+            while (resultSet.next()) {
+                script.add(resultSet.getString(1));
+            }
+        }
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : script) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.tenco.blog_jpa_step4.commom.utils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.tenco.blog_jpa_step4.commom.errors.Exception401;
+import com.tenco.blog_jpa_step4.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JwtUtilTest 는 JwtUtil 의 검증 결과와 검증 캐시가 변조/만료된 토큰을 통과시키지 않는지 확인하는 테스트입니다.
+ * (검증 캐시의 처리량 비교는 JwtUtilBenchmark 참고)
+ * 스프링 컨텍스트 없이 실행됩니다.
+ */
+public class JwtUtilTest {
+
+    @Test
+    @DisplayName("토큰 검증 테스트 - 캐시된 토큰도 동일한 사용자 정보를 반환")
+    public void verify_test() {
+        // given
+        String jwt = JwtUtil.create(User.builder().id(1).username("길동").build());
+
+        // when
+        User first = JwtUtil.verify(jwt);
+        User second = JwtUtil.verify(jwt); // 캐시에서 조회
+
+        // then
+        assertEquals(1, first.getId());
+        assertEquals("길동", first.getUsername());
+        assertEquals(first.getId(), second.getId());
+        assertEquals(first.getUsername(), second.getUsername());
+        assertNotSame(first, second, "요청마다 새로운 User 객체를 반환해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("토큰 검증 테스트 - 서명이 다른 토큰은 거부")
+    public void verify_invalid_signature_test() {
+        // given: 다른 비밀키로 서명한 토큰
+        String forged = JWT.create()
+                .withSubject("blog")
+                .withClaim("id", 1)
+                .withClaim("username", "길동")
+                .sign(Algorithm.HMAC512("other-secret"));
+
+        // when & then
+        assertThrows(SignatureVerificationException.class, () -> JwtUtil.verify(forged));
+        assertThrows(SignatureVerificationException.class, () -> JwtUtil.verify(forged)); // 실패한 토큰은 캐시되지 않음
+    }
+
+    @Test
+    @DisplayName("토큰 검증 테스트 - 캐시된 토큰을 변조하면 거부")
+    public void verify_tampered_after_cache_hit_test() {
+        // given: 한 번 검증해서 캐시에 저장된 토큰
+        String jwt = JwtUtil.create(User.builder().id(1).username("길동").role("USER").build());
+        JwtUtil.verify(jwt);
+        String[] parts = jwt.split("\\.");
+
+        // when: 서명은 그대로 두고 페이로드만 바꾼 토큰 (role 을 ADMIN 으로)
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"USER\"", "\"ADMIN\"");
+        String tampered = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        // then
+        assertThrows(SignatureVerificationException.class, () -> JwtUtil.verify(tampered));
+        assertEquals("USER", JwtUtil.verify(jwt).getRole(), "원래 토큰은 그대로 검증되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("토큰 검증 테스트 - 캐시된 토큰도 만료 시간이 지나면 거부")
+    public void verify_expired_after_cache_hit_test() throws Exception {
+        // given: 곧 만료되는 토큰을 한 번 검증해서 캐시에 저장
+        long expiresAt = (System.currentTimeMillis() / 1000 + 2) * 1000; // JWT 만료 시간은 초 단위
+        String jwt = JWT.create()
+                .withSubject("blog")
+                .withExpiresAt(new Date(expiresAt))
+                .withClaim("id", 1)
+                .withClaim("username", "길동")
+                .sign(Algorithm.HMAC512("tencoding"));
+        assertEquals(1, JwtUtil.verify(jwt).getId());
+
+        // when: 만료 시간이 지날 때까지 대기
+        while (System.currentTimeMillis() <= expiresAt + 100) {
+            Thread.sleep(50);
+        }
+
+        // then
+        assertThrows(TokenExpiredException.class, () -> JwtUtil.verify(jwt));
+    }
+
+    @Test
+    @DisplayName("선택적 토큰 검증 테스트 - 헤더가 없으면 비로그인(null), 잘못된 토큰은 401")
+    public void verifyOptional_test() {
+        // given
+        String jwt = JwtUtil.create(User.builder().id(1).username("길동").role("USER").build());
+
+        // when & then
+        assertNull(JwtUtil.verifyOptional(null));
+        assertNull(JwtUtil.verifyOptional("Basic " + jwt), "Bearer 형식이 아니면 비로그인으로 처리합니다.");
+        assertEquals(1, JwtUtil.verifyOptional(Define.BEARER + jwt).getId());
+        assertThrows(Exception401.class, () -> JwtUtil.verifyOptional(Define.BEARER + "not-a-jwt"));
+    }
+
+    @Test
+    @DisplayName("요청 사용자 확인 테스트 - 세션 사용자 우선, 없으면 JWT, 잘못된 토큰은 비로그인(null)")
+    public void resolveUserId_test() {
+        // given
+        String jwt = JwtUtil.create(User.builder().id(1).username("길동").role("USER").build());
+        MockHttpServletRequest withSessionUser = new MockHttpServletRequest("GET", "/api/boards");
+        withSessionUser.setAttribute(Define.SESSION_USER, User.builder().id(2).build());
+        withSessionUser.addHeader(Define.AUTHORIZATION, Define.BEARER + jwt);
+        MockHttpServletRequest withToken = new MockHttpServletRequest("GET", "/boards");
+        withToken.addHeader(Define.AUTHORIZATION, Define.BEARER + jwt);
+        MockHttpServletRequest withBadToken = new MockHttpServletRequest("GET", "/boards");
+        withBadToken.addHeader(Define.AUTHORIZATION, Define.BEARER + "not-a-jwt");
+
+        // when & then
+        assertEquals(2, JwtUtil.resolveUserId(withSessionUser));
+        assertEquals(1, JwtUtil.resolveUserId(withToken));
+        assertNull(JwtUtil.resolveUserId(withBadToken));
+        assertNull(JwtUtil.resolveUserId(new MockHttpServletRequest("GET", "/boards")));
+    }
+}
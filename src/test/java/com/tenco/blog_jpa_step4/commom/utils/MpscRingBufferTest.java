@@ -0,0 +1,83 @@
+package com.tenco.blog_jpa_step4.commom.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MpscRingBufferTest 는 링 버퍼가 가득 찼을 때 거절하는지, 여러 스레드가 동시에 넣어도 빠짐없이 꺼내지는지 확인하는 테스트입니다.
+ */
+public class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("링 버퍼 테스트 - 가득 차면 대기하지 않고 false, 꺼내면 다시 넣을 수 있음")
+    public void offer_when_full_test() {
+        // given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        // when & then
+        assertFalse(buffer.offer(4), "가득 차면 넣지 못해야 합니다.");
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4));
+        for (int expected = 1; expected <= 4; expected++) {
+            assertEquals(expected, buffer.poll(), "넣은 순서대로 꺼내야 합니다.");
+        }
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    @DisplayName("링 버퍼 테스트 - 여러 스레드가 동시에 넣어도 넣은 항목은 모두 한 번씩 꺼내짐")
+    public void concurrent_producers_test() throws Exception {
+        // given: 4개 스레드가 작은 버퍼에 10,000개씩 넣기 (가득 차면 버리고 버린 수를 셈)
+        int producers = 4;
+        int perProducer = 10_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(64);
+        AtomicInteger offered = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    if (buffer.offer(producer * perProducer + i)) {
+                        offered.incrementAndGet();
+                    } else {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        // when: 한 스레드(현재 스레드)에서만 꺼냄
+        boolean[] seen = new boolean[producers * perProducer];
+        int polled = 0;
+        start.countDown();
+        executor.shutdown();
+        while (!executor.isTerminated() || buffer.size() > 0) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                assertFalse(seen[value], "같은 항목이 두 번 꺼내지면 안 됩니다.");
+                seen[value] = true;
+                polled++;
+            }
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(producers * perProducer, offered.get() + rejected.get());
+        assertEquals(offered.get(), polled, "넣는 데 성공한 항목은 모두 꺼내져야 합니다.");
+    }
+}
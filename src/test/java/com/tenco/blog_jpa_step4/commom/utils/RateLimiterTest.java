@@ -0,0 +1,73 @@
+package com.tenco.blog_jpa_step4.commom.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RateLimiterTest 는 키별 요청 수 제한(burst, 평균 속도)과 동시 요청 시 정확성을 확인하는 테스트입니다.
+ * 시각은 테스트에서 직접 움직입니다. (스프링 컨텍스트 없이 실행)
+ */
+public class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    @Test
+    @DisplayName("요청 수 제한 테스트 - burst 만큼 허용 후 거절, 시간이 지나면 다시 허용")
+    public void burst_then_refill_test() {
+        // given: 초당 10건 (100ms 마다 1개), burst 5
+        RateLimiter rateLimiter = new RateLimiter(10, Duration.ofSeconds(1), 5, Duration.ofMinutes(1), 1_000, now::get);
+
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("127.0.0.1"), (i + 1) + "번째 요청은 허용되어야 합니다.");
+        }
+        long waitNanos = rateLimiter.tryAcquire("127.0.0.1");
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), waitNanos, "다음 토큰이 채워질 때까지 기다려야 합니다.");
+        assertEquals(0, rateLimiter.tryAcquire(1), "다른 키(사용자 ID)는 영향을 받지 않아야 합니다.");
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(0, rateLimiter.tryAcquire("127.0.0.1"));
+        assertTrue(rateLimiter.tryAcquire("127.0.0.1") > 0);
+    }
+
+    @Test
+    @DisplayName("요청 수 제한 테스트 - 같은 키에 동시 요청해도 burst 만큼만 허용")
+    public void concurrent_acquire_test() throws Exception {
+        // given: 시간이 멈춘 상태에서 8개 스레드가 같은 키로 1,000번씩 요청
+        int burst = 100;
+        RateLimiter rateLimiter = new RateLimiter(1, Duration.ofHours(1), burst, Duration.ofMinutes(1), 1_000, now::get);
+        int threads = 8;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1_000; i++) {
+                    if (rateLimiter.tryAcquire(1) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        // when
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(burst, allowed.get());
+    }
+}
@@ -0,0 +1,85 @@
+package com.tenco.blog_jpa_step4.commom.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SqlStatementCounterTest 는 SQL 모양(shape) 정규화와 반복된 SELECT(N+1 의심) 집계를 확인하는 테스트입니다.
+ * (스프링 컨텍스트 없이 실행)
+ */
+public class SqlStatementCounterTest {
+
+    @AfterEach
+    public void tearDown() {
+        SqlStatementCounter.stop();
+    }
+
+    @Test
+    @DisplayName("SQL 모양 정규화 테스트 - 리터럴, 숫자, IN 목록 길이만 다른 SQL 은 같은 모양")
+    public void normalize_same_shape_test() {
+        // 숫자 리터럴
+        assertEquals(SqlStatementCounter.normalize("select * from user_tb u1_0 where u1_0.id=1"),
+                SqlStatementCounter.normalize("select * from user_tb u1_0 where u1_0.id=42"));
+        // 문자열 리터럴 (이스케이프된 따옴표 포함)
+        assertEquals(SqlStatementCounter.normalize("select * from user_tb where username='ssar'"),
+                SqlStatementCounter.normalize("select * from user_tb where username='it''s me'"));
+        // IN 목록 길이 (바인딩 변수 / 숫자 리터럴)
+        assertEquals(SqlStatementCounter.normalize("select * from reply_tb where board_id in (?)"),
+                SqlStatementCounter.normalize("select * from reply_tb where board_id in (?, ?, ?)"));
+        assertEquals(SqlStatementCounter.normalize("select * from reply_tb where board_id in (?,?)"),
+                SqlStatementCounter.normalize("select * from reply_tb where board_id in (1, 2, 3, 4)"));
+        // 공백과 대소문자
+        assertEquals("select * from board_tb where id=?",
+                SqlStatementCounter.normalize("  SELECT *\n  FROM board_tb\tWHERE id=7 "));
+    }
+
+    @Test
+    @DisplayName("SQL 모양 정규화 테스트 - 테이블/컬럼/조건이 다른 SQL 은 다른 모양")
+    public void normalize_different_shape_test() {
+        String byId = SqlStatementCounter.normalize("select * from board_tb b1_0 where b1_0.id=?");
+
+        assertNotEquals(byId, SqlStatementCounter.normalize("select * from user_tb u1_0 where u1_0.id=?"));
+        assertNotEquals(byId, SqlStatementCounter.normalize("select * from board_tb b1_0 where b1_0.user_id=?"));
+        assertNotEquals(byId, SqlStatementCounter.normalize("select * from board_tb b1_0 where b1_0.id>?"));
+        assertNotEquals(byId, SqlStatementCounter.normalize("select * from board_tb b2_0 where b2_0.id=?"),
+                "별칭 안의 숫자는 리터럴이 아닙니다.");
+    }
+
+    @Test
+    @DisplayName("반복 SELECT 집계 테스트 - 같은 모양이 기준 이상 반복된 SELECT 만 N+1 의심으로 보고")
+    public void repeatedShapes_test() {
+        // given
+        SqlStatementCounter.start();
+        for (int id = 1; id <= 5; id++) {
+            SqlStatementCounter.record("select * from user_tb u1_0 where u1_0.id=" + id);
+        }
+        SqlStatementCounter.record("select * from board_tb b1_0 where b1_0.id=1");
+        SqlStatementCounter.record("select * from board_tb b1_0 where b1_0.id=2");
+        for (int i = 0; i < 5; i++) {
+            SqlStatementCounter.record("update board_tb set reply_count=reply_count+1 where id=" + i);
+        }
+
+        // when
+        SqlStatementCounter.Stats stats = SqlStatementCounter.stop();
+
+        // then: 전체 SQL 수는 모두 세지만, 반복 집계는 SELECT 만
+        assertEquals(12, stats.getCount());
+        List<String> repeated = stats.repeatedShapes(3);
+        assertEquals(List.of("5x select * from user_tb u1_0 where u1_0.id=?"), repeated);
+        assertEquals(2, stats.repeatedShapes(2).size());
+    }
+
+    @Test
+    @DisplayName("측정 구간 테스트 - start() 전에 실행된 SQL 은 세지 않음")
+    public void record_without_start_test() {
+        SqlStatementCounter.record("select 1");
+
+        assertNull(SqlStatementCounter.current());
+        assertNull(SqlStatementCounter.stop());
+    }
+}
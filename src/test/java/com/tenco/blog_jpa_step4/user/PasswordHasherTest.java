@@ -0,0 +1,79 @@
+package com.tenco.blog_jpa_step4.user;
+
+import com.tenco.blog_jpa_step4.commom.errors.Exception503;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PasswordHasherTest 는 비밀번호 해시/검증과 해시 스레드 풀의 거절(503) 동작을 확인하는 테스트입니다.
+ * 스프링 컨텍스트 없이 실행됩니다.
+ */
+public class PasswordHasherTest {
+
+    @Test
+    @DisplayName("비밀번호 해시 테스트 - 같은 비밀번호도 salt 가 달라 해시가 다르고, 검증은 성공")
+    public void hash_and_matches_test() {
+        // given
+        PasswordHasher hasher = new PasswordHasher(2, 8, 1_000, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        // when
+        String first = hasher.hash("1234");
+        String second = hasher.hash("1234");
+
+        // then
+        assertTrue(first.startsWith("pbkdf2$1000$"));
+        assertNotEquals(first, second, "salt 가 달라야 합니다.");
+        assertTrue(hasher.matches("1234", first));
+        assertFalse(hasher.matches("12345", first));
+        assertFalse(hasher.matches("1234", "1234"), "해시 형식이 아닌 값은 일치하지 않아야 합니다.");
+        hasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("비밀번호 검증 테스트 - 비교할 해시가 없어도(없는 사용자) 해시 계산을 거친 후 불일치")
+    public void matches_without_hash_test() {
+        // given
+        MeterRegistry registry = new SimpleMeterRegistry();
+        PasswordHasher hasher = new PasswordHasher(1, 8, 1_000, Duration.ofSeconds(5), registry);
+
+        // when
+        boolean matched = hasher.matches("1234", null);
+        boolean malformed = hasher.matches("1234", "pbkdf2$x$y$z");
+
+        // then: 두 번 모두 해시 스레드 풀에서 계산 (응답 시간이 실제 비교와 같음)
+        assertFalse(matched);
+        assertFalse(malformed);
+        assertEquals(2.0, registry.get("executor.completed").tag("name", "password.hasher").functionCounter().count());
+        hasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시 스레드 풀 테스트 - 대기열이 가득 차면 기다리지 않고 503 으로 거절")
+    public void rejects_when_queue_is_full_test() throws Exception {
+        // given: 스레드 1개, 대기열 1개, 오래 걸리는 해시 (실행 중 1건 + 대기 1건이면 가득 참)
+        MeterRegistry registry = new SimpleMeterRegistry();
+        PasswordHasher hasher = new PasswordHasher(1, 1, 2_000_000, Duration.ofSeconds(60), registry);
+        CompletableFuture.runAsync(() -> hasher.hash("1234"));
+        CompletableFuture.runAsync(() -> hasher.hash("1234"));
+        while (registry.get("executor.queued").tag("name", "password.hasher").gauge().value() < 1) {
+            Thread.sleep(5);
+        }
+
+        // when
+        long start = System.nanoTime();
+        assertThrows(Exception503.class, () -> hasher.hash("1234"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then: 대기하지 않고 바로 거절, 거절 횟수 메트릭 증가
+        assertTrue(elapsedMillis < 500, "대기열이 가득 차면 바로 거절해야 합니다. (" + elapsedMillis + "ms)");
+        assertEquals(1.0, registry.get("password.hasher.rejected").counter().count());
+        hasher.shutdown();
+    }
+}
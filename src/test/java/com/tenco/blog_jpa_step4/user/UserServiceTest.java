@@ -0,0 +1,112 @@
+package com.tenco.blog_jpa_step4.user;
+
+import com.tenco.blog_jpa_step4.commom.errors.Exception400;
+import com.tenco.blog_jpa_step4.commom.errors.Exception401;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserServiceTest 는 비밀번호 해시를 사용하는 회원가입/로그인/회원 정보 수정을 확인하는 테스트입니다.
+ * 서비스 메서드가 트랜잭션을 직접 나눠서 실행하므로 클래스에 @Transactional 을 붙이지 않고, 가입한 사용자는 테스트 후 삭제합니다.
+ */
+@SpringBootTest
+public class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserJPARepository userJPARepository;
+
+    private final List<Integer> createdUserIds = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        userJPARepository.deleteAllById(createdUserIds);
+        createdUserIds.clear();
+    }
+
+    @Test
+    @DisplayName("회원 정보 수정 테스트 - 새 비밀번호는 해시로 저장되고 로그인에 사용")
+    public void updateUser_password_test() {
+        // given
+        String username = "수정테스터" + System.nanoTime();
+        UserResponse.DTO joined = join(username, "1234");
+        User sessionUser = User.builder().id(joined.getId()).username(username).build();
+        UserRequest.UpdateDTO updateDTO = new UserRequest.UpdateDTO();
+        updateDTO.setPassword("5678");
+        updateDTO.setEmail("new@nate.com");
+
+        // when
+        userService.updateUser(joined.getId(), updateDTO, sessionUser);
+
+        // then
+        User saved = userJPARepository.findById(joined.getId()).orElseThrow();
+        assertTrue(saved.getPassword().startsWith("pbkdf2$"), "비밀번호는 해시로 저장되어야 합니다.");
+        assertEquals("new@nate.com", saved.getEmail());
+        assertNotNull(userService.signIn(login(username, "5678")));
+        assertThrows(Exception401.class, () -> userService.signIn(login(username, "1234")));
+    }
+
+    @Test
+    @DisplayName("회원가입 테스트 - 같은 유저네임으로 동시에 가입하면 하나만 성공하고 나머지는 400")
+    public void signUp_concurrent_duplicate_test() throws Exception {
+        // given: 중복 검사 후 해시 계산 중에 다른 요청이 끼어들 수 있도록 동시에 시작
+        String username = "동시가입" + System.nanoTime();
+        int threads = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<UserResponse.DTO>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                UserRequest.JoinDTO joinDTO = new UserRequest.JoinDTO();
+                joinDTO.setUsername(username);
+                joinDTO.setPassword("1234");
+                return userService.signUp(joinDTO);
+            }));
+        }
+
+        // when
+        start.countDown();
+        int succeeded = 0;
+        for (Future<UserResponse.DTO> result : results) {
+            try {
+                createdUserIds.add(result.get(30, TimeUnit.SECONDS).getId());
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(Exception400.class, e.getCause(), "중복 가입은 400 으로 거절되어야 합니다.");
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(1, succeeded);
+    }
+
+    private UserResponse.DTO join(String username, String password) {
+        UserRequest.JoinDTO joinDTO = new UserRequest.JoinDTO();
+        joinDTO.setUsername(username);
+        joinDTO.setPassword(password);
+        joinDTO.setEmail(username + "@nate.com");
+        UserResponse.DTO joined = userService.signUp(joinDTO);
+        createdUserIds.add(joined.getId());
+        return joined;
+    }
+
+    private static UserRequest.LoginDTO login(String username, String password) {
+        UserRequest.LoginDTO loginDTO = new UserRequest.LoginDTO();
+        loginDTO.setUsername(username);
+        loginDTO.setPassword(password);
+        return loginDTO;
+    }
+}